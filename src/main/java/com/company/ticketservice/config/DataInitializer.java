@@ -27,10 +27,7 @@ public class DataInitializer implements CommandLineRunner {
         
         // 미래 날짜의 AVAILABLE 티켓 개수 확인
         LocalDateTime now = LocalDateTime.now();
-        long availableFutureTickets = ticketRepository.findAll().stream()
-                .filter(t -> t.getTicketStatus() == TicketStatus.AVAILABLE)
-                .filter(t -> t.getEventDate() != null && t.getEventDate().isAfter(now))
-                .count();
+        long availableFutureTickets = ticketRepository.countByTicketStatusAndEventDateAfter(TicketStatus.AVAILABLE, now);
         
         log.info("Available future tickets: {} (target: 100)", availableFutureTickets);
         
@@ -39,10 +36,7 @@ public class DataInitializer implements CommandLineRunner {
             log.info("🚀 Initializing additional ticket seed data (future dates only)... Current: {}, Target: 100", availableFutureTickets);
             try {
                 initializeFutureTickets();
-                long newCount = ticketRepository.findAll().stream()
-                        .filter(t -> t.getTicketStatus() == TicketStatus.AVAILABLE)
-                        .filter(t -> t.getEventDate() != null && t.getEventDate().isAfter(now))
-                        .count();
+                long newCount = ticketRepository.countByTicketStatusAndEventDateAfter(TicketStatus.AVAILABLE, now);
                 log.info("✅ Ticket seed data initialized successfully. Available future tickets: {} (added: {})", newCount, newCount - availableFutureTickets);
             } catch (Exception e) {
                 log.error("❌ Failed to initialize ticket seed data", e);
@@ -0,0 +1,75 @@
+package com.company.ticketservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 이미지 저장 설정
+ * - imageUploadExecutor: 업로드 전용 스레드 풀 (요청 스레드와 분리)
+ *   : 큐가 가득 차면 제출한 스레드에서 직접 실행 → 업로드가 밀리면 요청 처리도 느려지는 back-pressure
+ * - imageProcessingExecutor: 썸네일 생성 전용 (CPU 작업이라 스레드 수를 코어 수 이하로 제한)
+ *   : 큐가 가득 차면 업로드 스레드에서 직접 실행 → 업로드 풀로 back-pressure 전달
+ * - s3 저장소를 쓸 때만 S3Client 생성, endpoint를 지정하면 MinIO 등 S3 호환 스토리지 사용 (path-style)
+ */
+@Configuration
+public class ImageStorageConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor(
+            @Value("${ticket.image.upload.threads:4}") int threads,
+            @Value("${ticket.image.upload.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 종료 시 진행 중인 업로드는 마무리
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor imageProcessingExecutor(
+            @Value("${ticket.image.variants.threads:2}") int threads,
+            @Value("${ticket.image.variants.queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-processing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "ticket.image.storage.type", havingValue = "s3")
+    public S3Client s3Client(
+            @Value("${aws.region:ap-northeast-2}") String region,
+            @Value("${ticket.image.storage.s3.endpoint:}") String endpoint
+    ) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(DefaultCredentialsProvider.create());
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .forcePathStyle(true);
+        }
+        return builder.build();
+    }
+}
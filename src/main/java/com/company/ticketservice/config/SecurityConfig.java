@@ -46,10 +46,15 @@ public class SecurityConfig {
                         // 찜하기 API는 인증 필요 (더 구체적인 경로를 먼저 체크)
                         .requestMatchers(HttpMethod.POST, "/api/tickets/*/favorite").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/tickets/*/favorite").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/favorites").authenticated()
 
                         // 티켓 조회는 누구나 가능 (GET 요청만)
                         .requestMatchers(HttpMethod.GET, "/api/tickets/**").permitAll()
 
+                        // 티켓 이미지 조회도 누구나 가능 (HEAD는 크기 확인용)
+                        .requestMatchers(HttpMethod.GET, "/api/images/**").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/api/images/**").permitAll()
+
                         // 티켓 상태 변경 (로그인 필요)
                         .requestMatchers(HttpMethod.PUT, "/api/tickets/*/status/*").authenticated()
 
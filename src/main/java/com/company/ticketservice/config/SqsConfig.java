@@ -0,0 +1,40 @@
+package com.company.ticketservice.config;
+
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.ListenerMode;
+import io.awspring.cloud.sqs.listener.acknowledgement.handler.AcknowledgementMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+import java.time.Duration;
+
+/**
+ * SQS 리스너 컨테이너 설정
+ * - deal 이벤트: 배치 수신 + 수동 ack (처리된 메시지만 모아서 삭제)
+ * - maxConcurrentMessages로 동시에 처리 중인 메시지 수 제한
+ */
+@Configuration
+public class SqsConfig {
+
+    @Bean
+    public SqsMessageListenerContainerFactory<Object> dealEventListenerContainerFactory(
+            SqsAsyncClient sqsAsyncClient,
+            @Value("${ticket.deal-events.max-messages-per-poll:10}") int maxMessagesPerPoll,
+            @Value("${ticket.deal-events.max-concurrent-messages:50}") int maxConcurrentMessages,
+            @Value("${ticket.deal-events.ack-interval:1s}") Duration ackInterval
+    ) {
+        return SqsMessageListenerContainerFactory.builder()
+                .sqsAsyncClient(sqsAsyncClient)
+                .configure(options -> options
+                        .listenerMode(ListenerMode.BATCH)
+                        .acknowledgementMode(AcknowledgementMode.MANUAL)
+                        .maxMessagesPerPoll(maxMessagesPerPoll)
+                        .maxConcurrentMessages(maxConcurrentMessages)
+                        // DeleteMessageBatch로 모아서 삭제
+                        .acknowledgementInterval(ackInterval)
+                        .acknowledgementThreshold(maxMessagesPerPoll))
+                .build();
+    }
+}
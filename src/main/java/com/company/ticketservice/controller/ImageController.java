@@ -0,0 +1,173 @@
+package com.company.ticketservice.controller;
+
+import com.company.ticketservice.exception.NotFoundException;
+import com.company.ticketservice.storage.ImageStorage;
+import com.company.ticketservice.storage.StoredImage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 티켓 이미지 조회
+ * - URL: /api/images/{key} (key = 티켓 응답의 image1/image2/썸네일 값)
+ * - key는 내용 해시/UUID 기반이라 같은 key의 내용이 바뀌지 않음 → ETag = key, Cache-Control: immutable
+ * - If-None-Match 일치하면 304, Range(단일 구간)면 206
+ * - 로컬 저장소: Tomcat sendfile로 전송 (힙/유저 공간 복사 없음), 지원하지 않거나 작은 파일은 FileChannel.transferTo
+ * - S3: 요청 구간만 Range GET으로 받아서 스트리밍
+ */
+@RestController
+@RequestMapping("/api/images")
+public class ImageController {
+
+    // Tomcat이 sendfile 지원 시 설정하는 request attribute / 서블릿이 전송을 맡길 때 설정하는 attribute
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable()
+            .getHeaderValue();
+
+    // "key" 또는 "thumb/key" 형태만 허용 (상위 경로, 숨김/임시 파일 차단)
+    private static final Pattern KEY_PATTERN = Pattern.compile("([a-z]+/)?[\\w\\-][\\w\\-.]*");
+
+    private final ImageStorage imageStorage;
+    private final long sendfileMinSize;
+
+    public ImageController(
+            ImageStorage imageStorage,
+            @Value("${ticket.image.serving.sendfile-min-size:48KB}") DataSize sendfileMinSize
+    ) {
+        this.imageStorage = imageStorage;
+        this.sendfileMinSize = sendfileMinSize.toBytes();
+    }
+
+    /**
+     * [GET] 이미지 조회
+     * - 사용자 누구나 조회 가능
+     */
+    @GetMapping("/{*key}")
+    public void getImage(
+            @PathVariable String key,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        String imageKey = key.startsWith("/") ? key.substring(1) : key;
+        if (!KEY_PATTERN.matcher(imageKey).matches() || imageKey.contains("..")) {
+            throw new NotFoundException("이미지를 찾을 수 없습니다.");
+        }
+        StoredImage image = imageStorage.open(imageKey);
+        if (image == null) {
+            throw new NotFoundException("이미지를 찾을 수 없습니다.");
+        }
+
+        String etag = "\"" + imageKey + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        long size = image.size();
+        long start = 0;
+        long end = size - 1;
+        HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                start = size;
+            }
+            if (start >= size || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        long length = end - start + 1;
+
+        response.setContentType(MediaTypeFactory.getMediaType(imageKey)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+        response.setContentLengthLong(length);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (image.file() != null) {
+            if (length >= sendfileMinSize && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+                // 본문은 서블릿이 반환된 뒤 Tomcat이 파일에서 소켓으로 바로 전송
+                request.setAttribute(SENDFILE_FILENAME, image.file().toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                return;
+            }
+            try (FileChannel channel = FileChannel.open(image.file(), StandardOpenOption.READ)) {
+                WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+                long position = start;
+                while (position <= end) {
+                    position += channel.transferTo(position, end + 1 - position, out);
+                }
+            }
+            return;
+        }
+
+        try (InputStream in = image.openStream(start, length)) {
+            OutputStream out = response.getOutputStream();
+            StreamUtils.copyRange(in, out, 0, length - 1);
+        }
+    }
+
+    /**
+     * 처리할 Range (없으면 전체)
+     * - 여러 구간 요청/잘못된 형식은 무시하고 전체 전송
+     * - If-Range가 현재 ETag와 다르면 전체 전송
+     */
+    private static HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
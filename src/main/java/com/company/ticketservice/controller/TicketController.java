@@ -1,17 +1,26 @@
 package com.company.ticketservice.controller;
 
 import com.company.ticketservice.dto.*;
+import com.company.ticketservice.exception.ConflictException;
+import com.company.ticketservice.service.TicketBulkCreateService;
 import com.company.ticketservice.service.TicketService;
 import com.company.ticketservice.service.FavoriteService;
+import com.company.ticketservice.service.FavoriteToggleCoalescer;
+import com.company.ticketservice.service.TicketAdmissionGate;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,7 +29,10 @@ import java.util.List;
 public class TicketController {
 
     private final TicketService ticketService;
+    private final TicketBulkCreateService ticketBulkCreateService;
     private final FavoriteService favoriteService;
+    private final TicketAdmissionGate ticketAdmissionGate;
+    private final FavoriteToggleCoalescer favoriteToggleCoalescer;
 
     /**
      * [POST] 티켓 등록 (판매자)
@@ -41,20 +53,95 @@ public class TicketController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * [POST] 티켓 대량 등록 (판매자)
+     * - URL: /api/sellers/tickets/bulk
+     * - 인증 필요
+     * - 본문: JSON 배열 / NDJSON(application/x-ndjson, 한 줄에 한 행) / CSV(text/csv, 첫 줄 헤더)
+     * - 이미지는 받지 않음 (등록 후 티켓 수정으로 추가)
+     * - 행별로 검증해서 실패한 행은 errors로 응답, 나머지 행은 등록
+     */
+    @PostMapping(
+            value = "/sellers/tickets/bulk",
+            consumes = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    MediaType.APPLICATION_NDJSON_VALUE,
+                    TicketBulkCreateService.TEXT_CSV_VALUE
+            }
+    )
+    public ApiResponse<TicketBulkCreateResponse> createTickets(
+            Authentication authentication,
+            HttpServletRequest request
+    ) throws IOException {
+        Long userId = (Long) authentication.getPrincipal();
+        TicketBulkCreateResponse response = ticketBulkCreateService.createTickets(
+                userId, request.getInputStream(), MediaType.parseMediaType(request.getContentType()));
+        return ApiResponse.success(response);
+    }
+
     /**
      * [GET] 티켓 리스트 조회 및 필터링 (페이지네이션 지원)
-     * - URL: /tickets?page=0&size=20&eventName=검색어&ticketStatus=AVAILABLE&sortBy=eventDate&sortDirection=ASC
+     * - URL: /tickets?page=0&size=20&eventName=검색어&ticketStatus=AVAILABLE&sortBy=eventDate&sortDirection=ASC&withTotal=exact
+     * - withTotal: exact(기본, count 쿼리) / false(전체 개수 생략) / estimated(캐시된 근사 개수)
+     * - withFavorite=true: 로그인 사용자면 각 티켓에 isFavorite 포함 (찜 여부 일괄 조회 1회)
      * - 사용자 누구나 조회 가능
      */
     @GetMapping("/tickets")
-    public ApiResponse<PageResponse<TicketResponse>> getTickets(
+    public ApiResponse<PageResponse<TicketSummaryResponse>> getTickets(
             TicketSearchCondition condition,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDirection
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(defaultValue = "exact") String withTotal,
+            @RequestParam(defaultValue = "false") boolean withFavorite
+    ) {
+        PageResponse<TicketSummaryResponse> responses = ticketService.searchTickets(
+                condition, page, size, sortBy, sortDirection, TotalCountMode.from(withTotal));
+
+        Long userId = withFavorite ? currentUserId() : null;
+        if (userId != null) {
+            responses = responses.withContent(favoriteService.markFavorites(userId, responses.getContent()));
+        }
+        return ApiResponse.success(responses);
+    }
+
+    /**
+     * [GET] 티켓 리스트 조회 (커서 기반 페이지네이션)
+     * - URL: /tickets?cursor=&size=20&sortBy=eventDate&sortDirection=ASC
+     * - 첫 페이지는 cursor를 빈 값으로, 이후에는 응답의 nextCursor를 그대로 전달
+     * - 날짜 정렬(eventDate, createdAt)만 지원
+     */
+    @GetMapping(value = "/tickets", params = "cursor")
+    public ApiResponse<CursorPageResponse<TicketSummaryResponse>> getTicketsByCursor(
+            TicketSearchCondition condition,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(defaultValue = "false") boolean withFavorite
+    ) {
+        CursorPageResponse<TicketSummaryResponse> responses = ticketService.searchTicketsByCursor(condition, cursor, size, sortBy, sortDirection);
+
+        Long userId = withFavorite ? currentUserId() : null;
+        if (userId != null) {
+            responses = responses.withContent(favoriteService.markFavorites(userId, responses.getContent()));
+        }
+        return ApiResponse.success(responses);
+    }
+
+    /**
+     * [GET] 찜 많은 순 티켓
+     * - URL: /api/tickets/popular?categoryId=1&limit=10
+     * - categoryId가 없으면 전체 카테고리 기준
+     * - 인증 불필요
+     */
+    @GetMapping("/tickets/popular")
+    public ApiResponse<List<TicketSummaryResponse>> getMostFavoritedTickets(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") int limit
     ) {
-        PageResponse<TicketResponse> responses = ticketService.searchTickets(condition, page, size, sortBy, sortDirection);
+        List<TicketSummaryResponse> responses = ticketService.getMostFavoritedTickets(categoryId, limit);
         return ApiResponse.success(responses);
     }
 
@@ -77,11 +164,11 @@ public class TicketController {
      * - 인증 필요
      */
     @GetMapping("/sellers/tickets")
-    public ApiResponse<List<TicketResponse>> getMyTickets(
+    public ApiResponse<List<TicketSummaryResponse>> getMyTickets(
             Authentication authentication
     ) {
         Long userId = (Long) authentication.getPrincipal();
-        List<TicketResponse> responses = ticketService.searchSellerTickets(userId);
+        List<TicketSummaryResponse> responses = ticketService.searchSellerTickets(userId);
         return ApiResponse.success(responses);
     }
 
@@ -124,6 +211,7 @@ public class TicketController {
     /**
      * [PUT] 티켓 상태 변경
      * - URL: /api/tickets/{ticketId}/status/{newStatus}
+     * - 응답: 변경 후 티켓 (이미 같은 상태면 변경 없이 200)
      * - 인증 필요
      */
     @PutMapping("/tickets/{ticketId}/status/{newStatus}")
@@ -135,8 +223,9 @@ public class TicketController {
         try {
             Long userId = (Long) authentication.getPrincipal();
 
-            TicketResponse updatedTicket =
-                    ticketService.updateTicketStatus(ticketId, userId, newStatus);
+            // 같은 사용자의 중복 요청은 한 건만 DB까지 진행 (전이 가능 여부는 DB 조건부 UPDATE가 판단)
+            TicketResponse updatedTicket = ticketAdmissionGate.admit(ticketId, userId,
+                    () -> ticketService.updateTicketStatus(ticketId, userId, newStatus));
 
             return ResponseEntity.ok(ApiResponse.success(updatedTicket));
 
@@ -147,6 +236,9 @@ public class TicketController {
         } catch (EntityNotFoundException e) {
             return ResponseEntity.notFound().build();
 
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+
         } catch (IllegalStateException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
 
@@ -187,7 +279,9 @@ public class TicketController {
     ) {
         try {
             Long userId = (Long) authentication.getPrincipal();
-            boolean isFavorite = favoriteService.toggleFavorite(userId, ticketId);
+            // 같은 찜 버튼 연타는 최종 상태로 합쳐서 처리
+            boolean isFavorite = favoriteToggleCoalescer.toggle(userId, ticketId,
+                    () -> favoriteService.toggleFavorite(userId, ticketId));
             return ApiResponse.success(isFavorite);
         } catch (IllegalStateException e) {
             // 인증 실패 시 401 반환
@@ -211,4 +305,32 @@ public class TicketController {
         boolean isFavorite = favoriteService.isFavorite(userId, ticketId);
         return ApiResponse.success(isFavorite);
     }
+
+    /**
+     * [GET] 찜하기 여부 일괄 확인
+     * - URL: /api/favorites?ticketIds=1,2,3
+     * - 로그인 필요
+     * - 전달한 ticketId 중 찜한 ticketId만 반환 (최대 100개)
+     */
+    @GetMapping("/favorites")
+    public ApiResponse<Set<Long>> checkFavorites(
+            Authentication authentication,
+            @RequestParam List<Long> ticketIds
+    ) {
+        Long userId = (Long) authentication.getPrincipal();
+        Set<Long> favorites = favoriteService.findFavoriteTicketIds(userId, ticketIds);
+        return ApiResponse.success(favorites);
+    }
+
+    /**
+     * 공개 조회 API에서 로그인 사용자 ID (비로그인이면 null)
+     * - 필요할 때만 꺼내서 JWT 검증도 이때 수행 (JwtAuthenticationFilter의 지연 컨텍스트)
+     */
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
 }
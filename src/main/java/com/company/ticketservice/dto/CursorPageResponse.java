@@ -0,0 +1,25 @@
+package com.company.ticketservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * - totalElements/totalPages 대신 다음 페이지 요청용 nextCursor 전달
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;   // 마지막 페이지면 null
+    private boolean hasNext;
+
+    public CursorPageResponse<T> withContent(List<T> content) {
+        return new CursorPageResponse<>(content, size, nextCursor, hasNext);
+    }
+}
@@ -17,5 +17,10 @@ public class PageResponse<T> {
     private int totalPages;
     private boolean first;
     private boolean last;
+    private TotalCountMode totalMode;   // NONE이면 totalElements/totalPages는 -1
+
+    public PageResponse<T> withContent(List<T> content) {
+        return new PageResponse<>(content, page, size, totalElements, totalPages, first, last, totalMode);
+    }
 }
 
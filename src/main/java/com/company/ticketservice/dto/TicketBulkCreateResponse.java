@@ -0,0 +1,27 @@
+package com.company.ticketservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 티켓 대량 등록 결과
+ * - row: 요청 본문에서의 행 번호 (1부터, CSV 헤더 제외)
+ * - 실패한 행은 errors에만 포함되고 나머지 행은 그대로 등록됨
+ */
+@Getter
+@AllArgsConstructor
+public class TicketBulkCreateResponse {
+
+    private int totalRows;
+    private int createdCount;
+    private List<CreatedTicket> created;
+    private List<RowError> errors;
+
+    public record CreatedTicket(int row, Long ticketId) {
+    }
+
+    public record RowError(int row, String message) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.company.ticketservice.dto;
+
+import com.company.ticketservice.entity.TradeType;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 티켓 대량 등록의 한 행 (JSON 배열 / NDJSON / CSV 공통)
+ * - TicketCreateRequest에서 이미지, 서버 설정값(ownerId, ticketStatus)을 뺀 필드
+ * - CSV는 첫 줄 헤더가 필드명과 같아야 함 (eventName,eventDate,...)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketBulkCreateRow {
+
+    private String eventName;
+    private LocalDateTime eventDate;     // yyyy-MM-dd'T'HH:mm:ss
+    private String eventLocation;
+    private BigDecimal originalPrice;
+    private Long categoryId;
+    private TradeType tradeType;
+
+    private BigDecimal sellingPrice;     // NULL 허용
+    private String seatInfo;             // NULL 허용
+    private String ticketType;           // NULL 허용
+    private String description;          // NULL 허용
+
+    public TicketCreateRequest toCreateRequest() {
+        return TicketCreateRequest.builder()
+                .eventName(eventName)
+                .eventDate(eventDate)
+                .eventLocation(eventLocation)
+                .originalPrice(originalPrice)
+                .categoryId(categoryId)
+                .tradeType(tradeType)
+                .sellingPrice(sellingPrice)
+                .seatInfo(seatInfo)
+                .ticketType(ticketType)
+                .description(description)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.company.ticketservice.dto;
+
+import com.company.ticketservice.exception.BadRequestException;
+import com.company.ticketservice.repository.TicketSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션용 continuation token
+ * - 현재 정렬 기준과 마지막으로 내려준 티켓의 (eventDate, ticketId)를 담음 (둘 다 NOT NULL 컬럼)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출 (opaque)
+ */
+@Getter
+@AllArgsConstructor
+public class TicketCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String sortKey;
+    private final LocalDateTime eventDate;
+    private final Long ticketId;
+
+    public static TicketCursor of(String sortKey, TicketSummary last) {
+        return new TicketCursor(sortKey, last.eventDate(), last.ticketId());
+    }
+
+    /** 정렬 필드명 → 커서에 담긴 값 */
+    public Comparable<?> valueOf(String property) {
+        return switch (property) {
+            case "eventDate" -> eventDate;
+            case "ticketId" -> ticketId;
+            default -> throw new BadRequestException("커서 정렬을 지원하지 않는 필드입니다: " + property);
+        };
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                sortKey,
+                String.valueOf(eventDate),
+                String.valueOf(ticketId));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TicketCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("invalid cursor length");
+            }
+            return new TicketCursor(
+                    parts[0],
+                    LocalDateTime.parse(parts[1]),
+                    Long.valueOf(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.company.ticketservice.dto;
 
+import com.company.ticketservice.entity.ImageRef;
 import com.company.ticketservice.entity.Ticket;
 import com.company.ticketservice.entity.TicketStatus;
 import com.company.ticketservice.entity.TradeType;
@@ -34,11 +35,20 @@ public class TicketResponse {
 
     private String image1;
     private String image2;
+    // 축소본 (없으면 원본 사용)
+    private String image1Thumbnail;
+    private String image1Web;
+    private String image2Thumbnail;
+    private String image2Web;
+    // 이미지 업로드 진행 중 (완료 전까지 해당 image 필드는 null)
+    private boolean imagePending;
 
     private String description;
 
     private TradeType tradeType;
 
+    private long favoriteCount;
+
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -57,10 +67,16 @@ public class TicketResponse {
                 .seatInfo(ticket.getSeatInfo())
                 .ticketType(ticket.getTicketType())
                 .categoryId(ticket.getCategoryId())
-                .image1(ticket.getImage1())
-                .image2(ticket.getImage2())
+                .image1(ImageRef.readyKey(ticket.getImage1()))
+                .image2(ImageRef.readyKey(ticket.getImage2()))
+                .image1Thumbnail(ticket.getImage1Thumbnail())
+                .image1Web(ticket.getImage1Web())
+                .image2Thumbnail(ticket.getImage2Thumbnail())
+                .image2Web(ticket.getImage2Web())
+                .imagePending(ImageRef.isPending(ticket.getImage1()) || ImageRef.isPending(ticket.getImage2()))
                 .description(ticket.getDescription())
                 .tradeType(ticket.getTradeType())
+                .favoriteCount(ticket.getFavoriteCount())
                 .createdAt(ticket.getCreatedAt())
                 .updatedAt(ticket.getUpdatedAt())
                 .build();
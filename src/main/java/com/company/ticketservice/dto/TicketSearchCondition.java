@@ -29,4 +29,17 @@ public class TicketSearchCondition {
 
     private Long categoryId;
 
+    /**
+     * 캐시 키용 정규화 문자열
+     * - 같은 조건이면 파라미터 순서/공백과 관계없이 같은 키
+     */
+    public String toCacheKey() {
+        String keyword = (eventName == null || eventName.isBlank()) ? "" : eventName.trim();
+        return "name=" + keyword
+                + "|status=" + (ticketStatus == null ? "" : ticketStatus.name())
+                + "|owner=" + (ownerId == null ? "" : ownerId)
+                + "|start=" + (startDate == null ? "" : startDate)
+                + "|end=" + (endDate == null ? "" : endDate)
+                + "|category=" + (categoryId == null ? "" : categoryId);
+    }
 }
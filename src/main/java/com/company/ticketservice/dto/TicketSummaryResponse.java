@@ -0,0 +1,92 @@
+package com.company.ticketservice.dto;
+
+import com.company.ticketservice.entity.ImageRef;
+import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.entity.TradeType;
+import com.company.ticketservice.repository.TicketSummary;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 티켓 목록용 응답 (상세 설명 제외)
+ * - 상세 조회는 TicketResponse 사용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class TicketSummaryResponse {
+
+    private Long ticketId;
+
+    private String eventName;
+    private LocalDateTime eventDate;
+    private String eventLocation;
+
+    private Long ownerId;
+    private TicketStatus ticketStatus;
+
+    private BigDecimal originalPrice;
+    private BigDecimal sellingPrice;
+
+    private String seatInfo;
+    private String ticketType;
+
+    private Long categoryId;
+
+    private String image1;
+    private String image2;
+    // 목록 카드용 썸네일 (없으면 image1/image2 사용)
+    private String image1Thumbnail;
+    private String image2Thumbnail;
+    // 이미지 업로드 진행 중 (완료 전까지 해당 image 필드는 null)
+    private boolean imagePending;
+
+    private TradeType tradeType;
+
+    private long favoriteCount;
+
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // 로그인 사용자가 withFavorite=true로 조회한 경우에만 포함
+    @JsonProperty("isFavorite")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean favorite;
+
+    public TicketSummaryResponse withFavorite(boolean favorite) {
+        return toBuilder().favorite(favorite).build();
+    }
+
+    // 프로젝션 -> DTO 변환용 정적 메서드
+    public static TicketSummaryResponse from(TicketSummary summary) {
+        return TicketSummaryResponse.builder()
+                .ticketId(summary.ticketId())
+                .eventName(summary.eventName())
+                .eventDate(summary.eventDate())
+                .eventLocation(summary.eventLocation())
+                .ownerId(summary.ownerId())
+                .ticketStatus(summary.ticketStatus())
+                .originalPrice(summary.originalPrice())
+                .sellingPrice(summary.sellingPrice())
+                .seatInfo(summary.seatInfo())
+                .ticketType(summary.ticketType())
+                .categoryId(summary.categoryId())
+                .image1(ImageRef.readyKey(summary.image1()))
+                .image2(ImageRef.readyKey(summary.image2()))
+                .image1Thumbnail(ImageRef.isPending(summary.image1()) ? null : summary.image1Thumbnail())
+                .image2Thumbnail(ImageRef.isPending(summary.image2()) ? null : summary.image2Thumbnail())
+                .imagePending(ImageRef.isPending(summary.image1()) || ImageRef.isPending(summary.image2()))
+                .tradeType(summary.tradeType())
+                .favoriteCount(summary.favoriteCount())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.ticketservice.dto;
+
+import com.company.ticketservice.exception.BadRequestException;
+
+/**
+ * 검색 결과 전체 개수 계산 방식 (withTotal 파라미터)
+ */
+public enum TotalCountMode {
+
+    NONE,        // withTotal=false : count 쿼리 없음, size + 1 조회로 다음 페이지 여부만 판단
+    EXACT,       // withTotal=exact : 매 요청마다 count(*) (기존 동작)
+    ESTIMATED;   // withTotal=estimated : 조건별 캐시된 count 사용, 백그라운드 갱신
+
+    public static TotalCountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        return switch (value.trim().toLowerCase()) {
+            case "false", "none" -> NONE;
+            case "true", "exact" -> EXACT;
+            case "estimated" -> ESTIMATED;
+            default -> throw new BadRequestException("withTotal 값은 false, exact, estimated 중 하나여야 합니다: " + value);
+        };
+    }
+}
@@ -7,6 +7,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "favorite", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"user_id", "ticket_id"})
+}, indexes = {
+    // 티켓별 찜 수 집계 (FavoriteCounter reconcile)
+    @Index(name = "idx_favorite_ticket_id", columnList = "ticket_id")
 })
 @Getter
 @Setter
@@ -0,0 +1,38 @@
+package com.company.ticketservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 찜 변경 신호 (인스턴스 간 찜 캐시 무효화용)
+ * - 찜 추가/삭제와 같은 트랜잭션에서 기록, 각 인스턴스가 주기적으로 조회해서 해당 사용자 캐시 제거
+ * - 찜 수 보정(FavoriteCounter reconcile)은 최근 변경된 티켓을 건너뛰는 데 사용 (다른 인스턴스가 아직 반영 전일 수 있음)
+ * - retention이 지나면 삭제
+ */
+@Entity
+@Table(name = "favorite_change", indexes = {
+    @Index(name = "idx_favorite_change_changed_at", columnList = "changed_at"),
+    @Index(name = "idx_favorite_change_ticket_id_changed_at", columnList = "ticket_id, changed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FavoriteChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "favorite_change_id")
+    private Long favoriteChangeId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "ticket_id")
+    private Long ticketId;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
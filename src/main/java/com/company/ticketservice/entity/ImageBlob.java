@@ -0,0 +1,49 @@
+package com.company.ticketservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 이미지 원본 blob (내용 해시 기준으로 한 번만 저장)
+ * - contentHash = SHA-256(내용), blobKey = 해시 + 세대 + 처음 올린 파일의 확장자 = 저장소 key
+ *   (행을 새로 만들 때마다 세대가 바뀜 → 삭제 후 다시 만든 행과 저장소 key가 겹치지 않음)
+ * - refCount = 이 key를 image1/image2로 참조하는 티켓 수 (업로드 중인 참조 포함)
+ * - refCount가 0이 되면 ImageBlobStore가 저장소 파일/축소본과 함께 삭제
+ */
+@Entity
+@Table(name = "image_blob", indexes = {
+    @Index(name = "uk_image_blob_blob_key", columnList = "blob_key", unique = true),
+    @Index(name = "idx_image_blob_ref_count", columnList = "ref_count")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageBlob {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "blob_key", nullable = false, length = 100)
+    private String blobKey;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    // 저장소 업로드 완료 여부 (false면 참조를 먼저 잡은 쪽이 업로드 중이거나 실패한 상태)
+    @Column(name = "stored", nullable = false)
+    private boolean stored;
+
+    // 축소본 key (생성 전이거나 실패하면 null)
+    @Column(name = "thumbnail_key", length = 100)
+    private String thumbnailKey;
+
+    @Column(name = "web_key", length = 100)
+    private String webKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,32 @@
+package com.company.ticketservice.entity;
+
+/**
+ * Ticket.image1/image2 값 규칙
+ * - 업로드 완료: 저장소 key
+ * - 업로드 중: "pending:" + key (업로드가 끝나면 ImageUploadService가 key로 교체, 실패하면 null)
+ */
+public final class ImageRef {
+
+    private static final String PENDING_PREFIX = "pending:";
+
+    private ImageRef() {
+    }
+
+    public static String pending(String key) {
+        return key == null ? null : PENDING_PREFIX + key;
+    }
+
+    public static boolean isPending(String ref) {
+        return ref != null && ref.startsWith(PENDING_PREFIX);
+    }
+
+    /** 업로드 중 참조의 staging key (업로드 중이 아니면 null) */
+    public static String pendingKey(String ref) {
+        return isPending(ref) ? ref.substring(PENDING_PREFIX.length()) : null;
+    }
+
+    /** 응답용 key (업로드 중이면 null) */
+    public static String readyKey(String ref) {
+        return isPending(ref) ? null : ref;
+    }
+}
@@ -0,0 +1,68 @@
+package com.company.ticketservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 - 발행할 도메인 이벤트
+ * - 티켓 변경과 같은 트랜잭션에서 저장 → 커밋된 변경만 발행, 발행 실패해도 유실 없음
+ * - OutboxRelay가 id 순서로 읽어 SNS로 발행 후 publishedAt 기록
+ * - maxAttempts번 실패하면 failedAt 기록 (보류, 더 이상 재시도하지 않음 - 원인 확인 후 수동 재처리)
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+    // 미발행 이벤트 조회 (id 순서)
+    @Index(name = "idx_outbox_event_published_at", columnList = "published_at, outbox_event_id"),
+    // aggregate별 앞선 미발행 이벤트 확인 (순서 보장)
+    @Index(name = "idx_outbox_event_aggregate", columnList = "aggregate_type, aggregate_id, outbox_event_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long outboxEventId;
+
+    // 순서를 보장할 단위 (예: ticket)
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 100)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    // 발행할 메시지 본문 (EventMessage JSON)
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 발행 재시도 정보
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // null이면 미발행
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    // 재시도 한도 초과로 보류된 시각 (null이면 발행 대상)
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+}
@@ -0,0 +1,32 @@
+package com.company.ticketservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료된 수신 이벤트 (중복 수신 방지)
+ * - 상태 변경과 같은 트랜잭션에서 기록, ttl이 지나면 삭제
+ */
+@Entity
+@Table(name = "processed_event", indexes = {
+    @Index(name = "idx_processed_event_processed_at", columnList = "processed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessedEvent {
+
+    // EventMessage의 eventId
+    @Id
+    @Column(name = "event_id", length = 100)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,29 @@
+package com.company.ticketservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 실행해야 하는 스케줄 작업용 lease
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "lease_name", length = 100)
+    private String leaseName;
+
+    // lease를 가진 인스턴스 식별자
+    @Column(name = "owner", nullable = false, length = 200)
+    private String owner;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
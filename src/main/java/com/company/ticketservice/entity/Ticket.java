@@ -6,7 +6,18 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ticket")
+@Table(name = "ticket", indexes = {
+    // 목록 기본 정렬 (OFFSET 페이지)
+    @Index(name = "idx_ticket_event_date_created_at", columnList = "event_date ASC, created_at DESC, ticket_id DESC"),
+    // 커서(seek) 페이지네이션 (eventDate, ticketId)
+    @Index(name = "idx_ticket_event_date_ticket_id", columnList = "event_date ASC, ticket_id DESC"),
+    // 상태 + 공연 날짜 집계 (미래 AVAILABLE 개수, 만료 대상 조회)
+    @Index(name = "idx_ticket_status_event_date", columnList = "ticket_status, event_date"),
+    // 찜 많은 순 랭킹/정렬
+    @Index(name = "idx_ticket_status_favorite_count", columnList = "ticket_status, favorite_count"),
+    // 키워드 색인 동기화 (since 이후 생성/수정된 티켓)
+    @Index(name = "idx_ticket_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -64,6 +75,19 @@ public class Ticket {
     @Column(name = "image2")
     private String image2;
 
+    // 이미지 축소본 key (목록용 썸네일, 상세용 웹 이미지) - 생성 전이거나 실패하면 null
+    @Column(name = "image1_thumbnail")
+    private String image1Thumbnail;
+
+    @Column(name = "image1_web")
+    private String image1Web;
+
+    @Column(name = "image2_thumbnail")
+    private String image2Thumbnail;
+
+    @Column(name = "image2_web")
+    private String image2Web;
+
     // 상세 설명 (TEXT)
     @Column(name = "description", columnDefinition = "TEXT", nullable = true)
     private String description;
@@ -73,15 +97,40 @@ public class Ticket {
     @Column(name = "trade_type", nullable = false)
     private TradeType tradeType;
 
+    // 찜 수 (FavoriteCounter가 일괄 반영, 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(name = "favorite_count", nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long favoriteCount;
+
 
 
+    // 낙관적 잠금 버전 (상태 일괄 변경/조건부 UPDATE에서도 증가)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long version;
 
-    // 타임스탬프
-    @Column(name = "created_at", insertable = false,  updatable = false)
+    // 타임스탬프 (애플리케이션이 관리 - 엔티티 저장은 @PrePersist/@PreUpdate, 일괄 UPDATE/INSERT는 쿼리에서 직접 설정)
+    // - DB 컬럼 정의(ON UPDATE 등)에 의존하지 않음 → ddl-auto update로 만든 기존 테이블에서도 동일하게 동작
+    @Column(name = "created_at", updatable = false,
+            columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6)")
     private LocalDateTime createdAt;
 
-    @Column(name = "updated_at" , insertable = false, updatable = false)
+    @Column(name = "updated_at",
+            columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6)")
     private LocalDateTime updatedAt;
 
+    @PrePersist
+    void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
 
 }
@@ -0,0 +1,29 @@
+package com.company.ticketservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 티켓 삭제 기록 (인스턴스 간 검색 색인 동기화용 tombstone)
+ * - 티켓 삭제와 같은 트랜잭션에서 기록, 각 인스턴스가 주기적으로 조회해서 색인에서 제거
+ * - retention이 지나면 삭제
+ */
+@Entity
+@Table(name = "ticket_deletion", indexes = {
+    @Index(name = "idx_ticket_deletion_deleted_at", columnList = "deleted_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketDeletion {
+
+    @Id
+    @Column(name = "ticket_id")
+    private Long ticketId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
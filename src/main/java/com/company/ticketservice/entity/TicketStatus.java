@@ -1,5 +1,8 @@
 package com.company.ticketservice.entity;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum TicketStatus {
 
     AVAILABLE(true, true),   // 판매중 (수정/삭제 가능)
@@ -26,6 +29,20 @@ public enum TicketStatus {
         return updatable;
     }
 
+    /**
+     * target으로 전이 가능한 이전 상태 (target 자신 제외)
+     * - 조건부 UPDATE의 WHERE status IN (...) 조건으로 사용
+     */
+    public static Set<TicketStatus> sourcesOf(TicketStatus target) {
+        Set<TicketStatus> sources = EnumSet.noneOf(TicketStatus.class);
+        for (TicketStatus status : values()) {
+            if (status != target && status.canChangeTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
+
     /** 상태 전이 가능 여부 */
     public boolean canChangeTo(TicketStatus target) {
         if (this == target) return true;
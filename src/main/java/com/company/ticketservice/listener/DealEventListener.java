@@ -1,55 +1,203 @@
 package com.company.ticketservice.listener;
 
 import com.company.sns.EventMessage;
+import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.service.DealEventService;
+import com.company.ticketservice.service.ProcessedEventStore;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.awspring.cloud.sqs.annotation.SqsListener;
-import lombok.RequiredArgsConstructor;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * deal 이벤트 배치 소비
+ * - 최대 maxMessagesPerPoll건씩 받아 한 트랜잭션에서 일괄 상태 변경 (DealEventService)
+ * - 처리 완료된 메시지만 모아서 ack, 일시 오류는 ack하지 않고 visibility timeout 후 재수신
+ * - 이미 처리된 eventId(ProcessedEventStore)는 DB 트랜잭션 없이 ack
+ * - 파싱 불가/티켓 없음/재시도 한도 초과 메시지는 DLQ로 보내고 ack (한 건 때문에 큐가 막히지 않도록)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class DealEventListener {
 
+    // deal 이벤트 → 티켓 상태 전이 (이전 상태가 expectedFrom일 때만 적용)
+    // - deal 서비스가 발행하는 이벤트는 현재 deal.confirmed 뿐 (사용 완료는 판매자가 상태 변경 API로 처리)
+    private static final Map<String, Rule> RULES = Map.of(
+            "deal.confirmed", new Rule(TicketStatus.RESERVED, TicketStatus.SOLD)
+    );
+
     private final ObjectMapper objectMapper;
-    // TODO: TicketService를 주입받아 실제 티켓 상태 업데이트 로직 구현
+    private final DealEventService dealEventService;
+    private final ProcessedEventStore processedEventStore;
+    private final SqsClient sqsClient;
+    private final String deadLetterQueueUrl;
+    private final int maxReceiveCount;
 
-    @SqsListener("${SQS_TICKET_DEAL_EVENTS_QUEUE_URL}")
-    public void handleDealEvent(String messageJson) {
-        try {
-            // SNS wraps SQS messages, so we need to extract the Message field
-            com.fasterxml.jackson.databind.JsonNode snsMessage = objectMapper.readTree(messageJson);
-            String actualMessage = snsMessage.has("Message")
-                ? snsMessage.get("Message").asText()
-                : messageJson;
-
-            EventMessage event = objectMapper.readValue(actualMessage, EventMessage.class);
-
-            log.info("[SQS-EVENT] Received deal event: {}", event.getEventType());
-
-            switch (event.getEventType()) {
-                case "deal.confirmed":
-                    handleDealConfirmed(event);
-                    break;
-                default:
-                    log.warn("[SQS-EVENT] Unknown event type: {}", event.getEventType());
+    public DealEventListener(
+            ObjectMapper objectMapper,
+            DealEventService dealEventService,
+            ProcessedEventStore processedEventStore,
+            SqsClient sqsClient,
+            @Value("${aws.sqs.queues.ticket-deal-events-dlq:}") String deadLetterQueueUrl,
+            @Value("${ticket.deal-events.max-receive-count:5}") int maxReceiveCount
+    ) {
+        this.objectMapper = objectMapper;
+        this.dealEventService = dealEventService;
+        this.processedEventStore = processedEventStore;
+        this.sqsClient = sqsClient;
+        this.deadLetterQueueUrl = deadLetterQueueUrl;
+        this.maxReceiveCount = maxReceiveCount;
+    }
+
+    @SqsListener(value = "${SQS_TICKET_DEAL_EVENTS_QUEUE_URL}", factory = "dealEventListenerContainerFactory")
+    public void handleDealEvents(List<Message<String>> messages, BatchAcknowledgement<String> acknowledgement) {
+        List<Message<String>> processed = new ArrayList<>();
+        List<Message<String>> pending = new ArrayList<>();
+        List<DealEventService.Transition> transitions = new ArrayList<>();
+
+        for (Message<String> message : messages) {
+            EventMessage event;
+            Long ticketId;
+            Long dealId;
+            try {
+                event = parse(message.getPayload());
+                ticketId = getLongValue(event.getData().get("ticketId"));
+                dealId = getLongValue(event.getData().get("dealId"));
+            } catch (Exception e) {
+                deadLetter(message, "unparseable: " + e.getMessage(), processed);
+                continue;
+            }
+
+            Rule rule = RULES.get(event.getEventType());
+            if (rule == null) {
+                log.warn("[SQS-EVENT] Unknown event type: {}", event.getEventType());
+                processed.add(message);
+                continue;
+            }
+            if (ticketId == null) {
+                deadLetter(message, "missing ticketId", processed);
+                continue;
+            }
+
+            log.info("[SQS-EVENT] Received {}: Deal ID: {}, Ticket ID: {}", event.getEventType(), dealId, ticketId);
+            transitions.add(new DealEventService.Transition(
+                    event.getEventId(), event.getEventType(), ticketId, dealId, rule.expectedFrom(), rule.target()));
+            pending.add(message);
+        }
+
+        // 이미 처리된 이벤트는 트랜잭션 없이 바로 ack
+        Set<String> alreadyProcessed = processedEventStore.findProcessed(
+                transitions.stream().map(DealEventService.Transition::eventId).toList());
+        if (!alreadyProcessed.isEmpty()) {
+            for (int i = transitions.size() - 1; i >= 0; i--) {
+                if (alreadyProcessed.contains(transitions.get(i).eventId())) {
+                    log.debug("[SQS-EVENT] Skipping duplicate event {}", transitions.get(i).eventId());
+                    processed.add(pending.remove(i));
+                    transitions.remove(i);
+                }
+            }
+        }
+
+        if (!transitions.isEmpty()) {
+            List<DealEventService.Outcome> outcomes;
+            try {
+                outcomes = dealEventService.apply(transitions);
+            } catch (Exception e) {
+                // DB 오류 등 일시 장애: 배치 전체를 ack하지 않고 재수신
+                log.error("[SQS-ERROR] Failed to apply deal events: {}", e.getMessage(), e);
+                acknowledge(acknowledgement, processed);
+                return;
             }
+
+            for (int i = 0; i < pending.size(); i++) {
+                Message<String> message = pending.get(i);
+                DealEventService.Transition transition = transitions.get(i);
+                switch (outcomes.get(i)) {
+                    case APPLIED, SKIPPED, DUPLICATE -> processed.add(message);
+                    case NOT_FOUND -> deadLetter(message, "ticket not found: " + transition.ticketId(), processed);
+                    case INVALID -> {
+                        // 순서가 뒤바뀐 메시지일 수 있으므로 재수신 한도까지는 다시 시도
+                        // (다른 배치에서 먼저 처리돼야 할 이벤트가 아직 안 왔거나, 이미 지난 상태에 대한 늦은 이벤트)
+                        if (receiveCount(message) >= maxReceiveCount) {
+                            deadLetter(message, "invalid transition to " + transition.target(), processed);
+                        } else {
+                            log.warn("[SQS-EVENT] Transition to {} not allowed yet for ticket {}, will retry",
+                                    transition.target(), transition.ticketId());
+                        }
+                    }
+                }
+            }
+        }
+
+        acknowledge(acknowledgement, processed);
+    }
+
+    /**
+     * SNS → SQS 메시지 파싱 (본문은 한 번만 파싱)
+     * - SNS envelope면 Message 필드(문자열 JSON)를 EventMessage로 변환
+     */
+    private EventMessage parse(String body) throws IOException {
+        JsonNode root = objectMapper.readTree(body);
+        JsonNode message = root.get("Message");
+        if (message != null && message.isTextual()) {
+            return objectMapper.readValue(message.asText(), EventMessage.class);
+        }
+        return objectMapper.treeToValue(root, EventMessage.class);
+    }
+
+    /**
+     * DLQ로 전송 후 처리 완료로 간주
+     * - DLQ 미설정 시 로그만 남김, 전송 실패 시 ack하지 않음 (재수신 후 SQS redrive 정책에 맡김)
+     */
+    private void deadLetter(Message<String> message, String reason, List<Message<String>> processed) {
+        if (deadLetterQueueUrl == null || deadLetterQueueUrl.isBlank()) {
+            log.error("[SQS-DLQ] Dropping deal event ({}): {}", reason, message.getPayload());
+            processed.add(message);
+            return;
+        }
+
+        try {
+            sqsClient.sendMessage(SendMessageRequest.builder()
+                    .queueUrl(deadLetterQueueUrl)
+                    .messageBody(message.getPayload())
+                    .messageAttributes(Map.of("reason", MessageAttributeValue.builder()
+                            .dataType("String")
+                            .stringValue(reason)
+                            .build()))
+                    .build());
+            log.warn("[SQS-DLQ] Moved deal event to DLQ: {}", reason);
+            processed.add(message);
         } catch (Exception e) {
-            log.error("[SQS-ERROR] Failed to process deal event: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to process deal event", e);
+            log.error("[SQS-DLQ] Failed to move deal event to DLQ ({}): {}", reason, e.getMessage());
         }
     }
 
-    private void handleDealConfirmed(EventMessage event) {
-        Long ticketId = getLongValue(event.getData().get("ticketId"));
-        Long dealId = getLongValue(event.getData().get("dealId"));
+    private void acknowledge(BatchAcknowledgement<String> acknowledgement, List<Message<String>> processed) {
+        if (!processed.isEmpty()) {
+            acknowledgement.acknowledge(processed);
+        }
+    }
 
-        log.info("[DEAL-CONFIRMED] Deal ID: {}, Ticket ID: {}", dealId, ticketId);
+    private int receiveCount(Message<String> message) {
+        Object value = message.getHeaders().get(SqsHeaders.MessageSystemAttributes.SQS_APPROXIMATE_RECEIVE_COUNT);
+        return value == null ? 1 : Integer.parseInt(value.toString());
+    }
 
-        // TODO: 티켓 상태를 USED로 변경하는 로직 구현
-        // ticketService.updateTicketStatusToUsed(ticketId);
-        log.info("[TODO] 티켓 상태 업데이트 로직이 필요합니다. Ticket ID: {}", ticketId);
+    private record Rule(TicketStatus expectedFrom, TicketStatus target) {
     }
 
     private Long getLongValue(Object value) {
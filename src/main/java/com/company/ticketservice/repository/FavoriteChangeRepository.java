@@ -0,0 +1,24 @@
+package com.company.ticketservice.repository;
+
+import com.company.ticketservice.entity.FavoriteChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FavoriteChangeRepository extends JpaRepository<FavoriteChange, Long> {
+
+    @Query("SELECT DISTINCT c.userId FROM FavoriteChange c WHERE c.changedAt >= :since")
+    List<Long> findUserIdsChangedSince(@Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FavoriteChange c WHERE c.changedAt < :before")
+    int deleteChangedBefore(@Param("before") LocalDateTime before);
+}
@@ -2,6 +2,9 @@ package com.company.ticketservice.repository;
 
 import com.company.ticketservice.entity.Favorite;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,6 +15,28 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     Optional<Favorite> findByUserIdAndTicketId(Long userId, Long ticketId);
     boolean existsByUserIdAndTicketId(Long userId, Long ticketId);
     List<Favorite> findByUserId(Long userId);
-    void deleteByUserIdAndTicketId(Long userId, Long ticketId);
+    long deleteByUserIdAndTicketId(Long userId, Long ticketId);
+
+    @Query("SELECT f.ticketId FROM Favorite f WHERE f.userId = :userId")
+    List<Long> findTicketIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 찜 추가 (이미 있으면 무시)
+     * @return 1이면 새로 추가, 0이면 이미 찜한 상태 (유니크 제약 위반 예외 없음)
+     */
+    @Modifying
+    @Query(value = """
+    INSERT IGNORE INTO favorite (user_id, ticket_id)
+    VALUES (:userId, :ticketId)
+""", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("ticketId") Long ticketId);
+
+    /**
+     * 찜 삭제 (조회 없이 DELETE 한 번)
+     * @return 1이면 삭제됨, 0이면 찜하지 않은 상태
+     */
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.userId = :userId AND f.ticketId = :ticketId")
+    int deleteFavorite(@Param("userId") Long userId, @Param("ticketId") Long ticketId);
 }
 
@@ -0,0 +1,64 @@
+package com.company.ticketservice.repository;
+
+import com.company.ticketservice.entity.ImageBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    /**
+     * 참조 추가 (없으면 refCount 1, stored=false로 생성 - 이미 있으면 blobKey는 기존 값 유지)
+     * - 삭제 작업이 같은 행을 잠그고 있으면 그 트랜잭션이 끝날 때까지 대기
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+    INSERT INTO image_blob (content_hash, blob_key, ref_count, stored, created_at)
+    VALUES (:contentHash, :blobKey, 1, false, :createdAt)
+    ON DUPLICATE KEY UPDATE ref_count = ref_count + 1
+""", nativeQuery = true)
+    int acquire(
+            @Param("contentHash") String contentHash,
+            @Param("blobKey") String blobKey,
+            @Param("createdAt") LocalDateTime createdAt
+    );
+
+    /**
+     * 참조 제거
+     * @return 0이면 blob 행이 없음 (내용 해시 도입 전 key 등)
+     */
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.refCount = b.refCount - 1 WHERE b.blobKey = :blobKey AND b.refCount > 0")
+    int release(@Param("blobKey") String blobKey);
+
+    @Modifying
+    @Query("""
+    UPDATE ImageBlob b
+       SET b.stored = true,
+           b.thumbnailKey = COALESCE(:thumbnailKey, b.thumbnailKey),
+           b.webKey = COALESCE(:webKey, b.webKey)
+     WHERE b.contentHash = :contentHash
+""")
+    int markStored(
+            @Param("contentHash") String contentHash,
+            @Param("thumbnailKey") String thumbnailKey,
+            @Param("webKey") String webKey
+    );
+
+    /**
+     * 참조 없는 blob 잠금 조회 (삭제용)
+     * - 잠근 동안 같은 key의 acquire는 대기, 잠그기 전에 참조가 생긴 행은 조건에서 빠짐
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ImageBlob b WHERE b.refCount = 0 ORDER BY b.contentHash")
+    List<ImageBlob> findUnreferencedForUpdate(Pageable pageable);
+}
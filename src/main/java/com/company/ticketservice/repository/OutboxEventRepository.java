@@ -0,0 +1,90 @@
+package com.company.ticketservice.repository;
+
+import com.company.ticketservice.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxEventRepositoryCustom {
+
+    /**
+     * 지금 발행할 수 있는 미발행 이벤트 (id 순서)
+     * - 재시도 대기 중(nextAttemptAt > now)이거나 보류된 이벤트는 제외 → 대기 중인 이벤트가 쌓여도 조회 건수를 차지하지 않음
+     * - 같은 aggregate에 재시도 대기 중인 앞선 이벤트가 있으면 제외 (aggregate별 순서 보장)
+     */
+    @Query("""
+    SELECT e
+      FROM OutboxEvent e
+     WHERE e.publishedAt IS NULL
+       AND e.failedAt IS NULL
+       AND e.nextAttemptAt <= :now
+       AND NOT EXISTS (
+           SELECT p.outboxEventId
+             FROM OutboxEvent p
+            WHERE p.aggregateType = e.aggregateType
+              AND p.aggregateId = e.aggregateId
+              AND p.outboxEventId < e.outboxEventId
+              AND p.publishedAt IS NULL
+              AND p.failedAt IS NULL
+              AND p.nextAttemptAt > :now
+       )
+     ORDER BY e.outboxEventId ASC
+""")
+    List<OutboxEvent> findPublishable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE OutboxEvent e
+       SET e.publishedAt = :publishedAt
+     WHERE e.outboxEventId IN :ids
+""")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE OutboxEvent e
+       SET e.attempts = e.attempts + 1,
+           e.nextAttemptAt = :nextAttemptAt,
+           e.lastError = :error
+     WHERE e.outboxEventId = :id
+""")
+    int markFailed(
+            @Param("id") Long id,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("error") String error
+    );
+
+    /**
+     * 재시도 한도 초과 - 보류 처리 (이후 조회 대상에서 제외)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE OutboxEvent e
+       SET e.attempts = e.attempts + 1,
+           e.failedAt = :failedAt,
+           e.lastError = :error
+     WHERE e.outboxEventId = :id
+""")
+    int markParked(
+            @Param("id") Long id,
+            @Param("failedAt") LocalDateTime failedAt,
+            @Param("error") String error
+    );
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,18 @@
+package com.company.ticketservice.repository;
+
+import com.company.ticketservice.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 일괄 저장용 커스텀 리포지토리
+ */
+public interface OutboxEventRepositoryCustom {
+
+    /**
+     * 이벤트 일괄 INSERT (대량 등록)
+     * - outboxEventId가 IDENTITY라 Hibernate batch insert가 꺼짐 → JDBC batch로 직접 INSERT
+     * - 생성된 id는 채우지 않음 (OutboxRelay가 id 순서로 다시 조회), 호출한 트랜잭션에 참여
+     */
+    void insertAll(List<OutboxEvent> events);
+}
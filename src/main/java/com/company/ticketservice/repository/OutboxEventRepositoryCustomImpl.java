@@ -0,0 +1,35 @@
+package com.company.ticketservice.repository;
+
+import com.company.ticketservice.entity.OutboxEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+public class OutboxEventRepositoryCustomImpl implements OutboxEventRepositoryCustom {
+
+    private static final String INSERT_EVENT = """
+    INSERT INTO outbox_event (aggregate_type, aggregate_id, event_type, payload, created_at, attempts, next_attempt_at)
+    VALUES (?, ?, ?, ?, ?, ?, ?)
+""";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getAggregateType());
+            ps.setString(2, event.getAggregateId());
+            ps.setString(3, event.getEventType());
+            ps.setString(4, event.getPayload());
+            ps.setTimestamp(5, Timestamp.valueOf(event.getCreatedAt()));
+            ps.setInt(6, event.getAttempts());
+            ps.setTimestamp(7, Timestamp.valueOf(event.getNextAttemptAt()));
+        });
+    }
+}
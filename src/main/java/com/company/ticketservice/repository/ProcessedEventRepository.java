@@ -0,0 +1,51 @@
+package com.company.ticketservice.repository;
+
+import com.company.ticketservice.entity.ProcessedEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, String> {
+
+    @Query("SELECT p.eventId FROM ProcessedEvent p WHERE p.eventId IN :eventIds")
+    List<String> findExistingIds(@Param("eventIds") Collection<String> eventIds);
+
+    /**
+     * 처리 기록 추가 (merge 전 SELECT 없이 바로 INSERT)
+     * @return 1이면 새로 기록, 0이면 이미 처리된 이벤트 (다른 트랜잭션이 기록 중이면 커밋까지 대기)
+     */
+    @Modifying
+    @Query(value = """
+    INSERT IGNORE INTO processed_event (event_id, event_type, processed_at)
+    VALUES (:eventId, :eventType, :processedAt)
+""", nativeQuery = true)
+    int insert(
+            @Param("eventId") String eventId,
+            @Param("eventType") String eventType,
+            @Param("processedAt") LocalDateTime processedAt
+    );
+
+    /**
+     * 중복 필터 초기화용 - since 이후 처리된 eventId 스트리밍 조회
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TicketRepository.STREAM_FETCH_SIZE))
+    @Query("SELECT p.eventId FROM ProcessedEvent p WHERE p.processedAt >= :since")
+    Stream<String> streamEventIdsProcessedSince(@Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ProcessedEvent p WHERE p.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
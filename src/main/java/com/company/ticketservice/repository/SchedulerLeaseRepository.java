@@ -0,0 +1,59 @@
+package com.company.ticketservice.repository;
+
+import com.company.ticketservice.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /** 만료됐거나 내가 가진 lease만 획득/연장 */
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE SchedulerLease l
+       SET l.owner = :owner,
+           l.lockedUntil = :until
+     WHERE l.leaseName = :name
+       AND (l.lockedUntil < :now OR l.owner = :owner)
+""")
+    int tryAcquire(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("until") LocalDateTime until
+    );
+
+    /** 최초 획득 (이미 있으면 PK 중복으로 실패) */
+    @Transactional
+    @Modifying
+    @Query(value = """
+    INSERT INTO scheduler_lease (lease_name, owner, locked_until)
+    VALUES (:name, :owner, :until)
+""", nativeQuery = true)
+    int insertLease(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("until") LocalDateTime until
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE SchedulerLease l
+       SET l.lockedUntil = :now
+     WHERE l.leaseName = :name
+       AND l.owner = :owner
+""")
+    int release(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now
+    );
+}
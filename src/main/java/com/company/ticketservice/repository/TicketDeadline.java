@@ -0,0 +1,9 @@
+package com.company.ticketservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 타이머 등록용 최소 컬럼 조회 결과
+ */
+public record TicketDeadline(Long ticketId, LocalDateTime eventDate) {
+}
@@ -0,0 +1,24 @@
+package com.company.ticketservice.repository;
+
+import com.company.ticketservice.entity.TicketDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TicketDeletionRepository extends JpaRepository<TicketDeletion, Long> {
+
+    @Query("SELECT d.ticketId FROM TicketDeletion d WHERE d.deletedAt >= :since")
+    List<Long> findTicketIdsDeletedSince(@Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TicketDeletion d WHERE d.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") LocalDateTime before);
+}
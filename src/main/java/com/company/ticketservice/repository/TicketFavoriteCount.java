@@ -0,0 +1,7 @@
+package com.company.ticketservice.repository;
+
+/**
+ * 찜 많은 순 랭킹용 최소 컬럼 조회 결과
+ */
+public record TicketFavoriteCount(Long ticketId, Long categoryId, long favoriteCount) {
+}
@@ -0,0 +1,19 @@
+package com.company.ticketservice.repository;
+
+import com.company.ticketservice.entity.TicketStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키워드 검색 색인용 최소 컬럼 조회 결과 (키워드 + 검색 필터 컬럼)
+ */
+public record TicketKeywordRow(
+        Long ticketId,
+        String eventName,
+        String eventLocation,
+        TicketStatus ticketStatus,
+        Long ownerId,
+        Long categoryId,
+        LocalDateTime eventDate
+) {
+}
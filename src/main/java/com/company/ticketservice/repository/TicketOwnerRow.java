@@ -0,0 +1,7 @@
+package com.company.ticketservice.repository;
+
+/**
+ * 만료 처리용 최소 컬럼 조회 결과 (이벤트 기록에 필요한 ticketId, ownerId만)
+ */
+public record TicketOwnerRow(Long ticketId, Long ownerId) {
+}
@@ -2,28 +2,330 @@ package com.company.ticketservice.repository;
 
 import com.company.ticketservice.entity.Ticket;
 import com.company.ticketservice.entity.TicketStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket> {
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
+public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket>, TicketRepositoryCustom {
+
+    // 대량 조회(관리/배치용) 스트리밍 시 한 번에 가져올 행 수
+    // - 이 힌트를 단 쿼리만 서버 커서로 조회 (fetch size 미지정 쿼리는 기존처럼 한 번에 받음)
+    // - MySQL은 JDBC URL의 useCursorFetch=true 필요 (드라이버 전체에 server-side prepared statement 적용)
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * 만료 대상 티켓 조회 (청크 단위, 행 잠금)
+     * - 같은 트랜잭션에서 expireTicketsByIds로 상태 변경
+     * - 엔티티 전체 대신 ticketId, ownerId만 조회 (영속성 컨텍스트에 쌓이지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
-    UPDATE Ticket t
-       SET t.ticketStatus = :expired
+    SELECT new com.company.ticketservice.repository.TicketOwnerRow(t.ticketId, t.ownerId)
+      FROM Ticket t
      WHERE t.ticketStatus = :available
        AND t.eventDate < :now
+     ORDER BY t.eventDate ASC
+""")
+    List<TicketOwnerRow> findExpirationCandidates(
+            @Param("available") TicketStatus available,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 타이머로 만료 시점이 된 티켓 조회 (행 잠금)
+     * - 그 사이 상태/날짜가 바뀐 티켓은 조건에서 제외
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+    SELECT new com.company.ticketservice.repository.TicketOwnerRow(t.ticketId, t.ownerId)
+      FROM Ticket t
+     WHERE t.ticketId IN :ticketIds
+       AND t.ticketStatus = :available
+       AND t.eventDate < :now
 """)
-    int expireAvailableTickets(
+    List<TicketOwnerRow> findExpirationCandidatesByIds(
+            @Param("ticketIds") Collection<Long> ticketIds,
             @Param("available") TicketStatus available,
-            @Param("expired") TicketStatus expired,
             @Param("now") LocalDateTime now
     );
 
-}
\ No newline at end of file
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    UPDATE Ticket t
+       SET t.ticketStatus = :expired,
+           t.version = t.version + 1,
+           t.updatedAt = CURRENT_TIMESTAMP
+     WHERE t.ticketId IN :ticketIds
+       AND t.ticketStatus = :available
+""")
+    int expireTicketsByIds(
+            @Param("ticketIds") List<Long> ticketIds,
+            @Param("available") TicketStatus available,
+            @Param("expired") TicketStatus expired
+    );
+
+    /**
+     * 상태 compare-and-set (소유자 + 전이 가능한 이전 상태일 때만 변경)
+     * - 검증과 변경을 UPDATE 한 번으로 처리 → 먼저 조회/잠금하지 않으므로 경쟁에서 진 요청은 바로 0 반환
+     * - version도 함께 올려서 동시에 진행 중인 일반 수정은 낙관적 잠금으로 실패
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    UPDATE Ticket t
+       SET t.ticketStatus = :newStatus,
+           t.version = t.version + 1,
+           t.updatedAt = CURRENT_TIMESTAMP
+     WHERE t.ticketId = :ticketId
+       AND t.ownerId = :ownerId
+       AND t.ticketStatus IN :allowedFrom
+""")
+    int compareAndSetStatus(
+            @Param("ticketId") Long ticketId,
+            @Param("ownerId") Long ownerId,
+            @Param("allowedFrom") Collection<TicketStatus> allowedFrom,
+            @Param("newStatus") TicketStatus newStatus
+    );
+
+    /**
+     * 상태 일괄 변경 대상 티켓 조회 (행 잠금, ID 순서로 잠가 교착 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+    SELECT t
+      FROM Ticket t
+     WHERE t.ticketId IN :ticketIds
+     ORDER BY t.ticketId ASC
+""")
+    List<Ticket> findAllForUpdate(@Param("ticketIds") Collection<Long> ticketIds);
+
+    /**
+     * 상태 일괄 변경 (from 상태인 티켓만)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    UPDATE Ticket t
+       SET t.ticketStatus = :to,
+           t.version = t.version + 1,
+           t.updatedAt = CURRENT_TIMESTAMP
+     WHERE t.ticketId IN :ticketIds
+       AND t.ticketStatus = :from
+""")
+    int updateStatusByIds(
+            @Param("ticketIds") Collection<Long> ticketIds,
+            @Param("from") TicketStatus from,
+            @Param("to") TicketStatus to
+    );
+
+    /**
+     * 만료 타이머 적재용 - eventDate가 [from, to) 구간인 특정 상태 티켓
+     * - idx_ticket_status_event_date 범위 조회
+     */
+    @Query("""
+    SELECT new com.company.ticketservice.repository.TicketDeadline(t.ticketId, t.eventDate)
+      FROM Ticket t
+     WHERE t.ticketStatus = :status
+       AND t.eventDate >= :from
+       AND t.eventDate < :to
+""")
+    List<TicketDeadline> findDeadlines(
+            @Param("status") TicketStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 미래 날짜의 특정 상태 티켓 개수 (DB에서 집계)
+     */
+    long countByTicketStatusAndEventDateAfter(TicketStatus ticketStatus, LocalDateTime eventDate);
+
+    /**
+     * 키워드 색인 구축용 - 전체 티켓을 스트리밍 조회
+     * - 결과 전체를 메모리에 올리지 않도록 fetch size 지정 (STREAM_FETCH_SIZE 참고)
+     * - 프로젝션 조회라 영속성 컨텍스트에 쌓이지 않음
+     * - 호출 측에서 읽기 전용 트랜잭션 안에서 사용하고 반드시 close
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("""
+    SELECT new com.company.ticketservice.repository.TicketKeywordRow(
+               t.ticketId, t.eventName, t.eventLocation, t.ticketStatus, t.ownerId, t.categoryId, t.eventDate)
+      FROM Ticket t
+""")
+    Stream<TicketKeywordRow> streamKeywordRows();
+
+    /**
+     * 키워드 색인 동기화용 - since 이후 생성/수정된 티켓 조회 (다른 인스턴스에서 변경된 티켓 반영)
+     * - updated_at은 INSERT 시에도 채워지므로 이 컬럼만 range scan (idx_ticket_updated_at)
+     */
+    @Query("""
+    SELECT new com.company.ticketservice.repository.TicketKeywordRow(
+               t.ticketId, t.eventName, t.eventLocation, t.ticketStatus, t.ownerId, t.categoryId, t.eventDate)
+      FROM Ticket t
+     WHERE t.updatedAt >= :since
+""")
+    List<TicketKeywordRow> findKeywordRowsModifiedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 업로드 완료된 이미지 참조 교체 ("pending:key" → key) + 썸네일/웹 이미지 key 기록 - image1 칸
+     * - image1이 아직 pendingRef일 때만 교체, 그 사이 다른 이미지로 바뀌었으면 0
+     * - 조건은 WHERE에만 두고 SET은 모두 미리 정해진 값 (SET 적용 순서와 무관)
+     * - version을 올려서 업로드 전에 조회한 엔티티로 덮어쓰지 못하게 함
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    UPDATE Ticket t
+       SET t.image1 = :ref,
+           t.image1Thumbnail = :thumbnail,
+           t.image1Web = :web,
+           t.version = t.version + 1,
+           t.updatedAt = CURRENT_TIMESTAMP
+     WHERE t.ticketId = :ticketId
+       AND t.image1 = :pendingRef
+""")
+    int resolveImage1Ref(
+            @Param("ticketId") Long ticketId,
+            @Param("pendingRef") String pendingRef,
+            @Param("ref") String ref,
+            @Param("thumbnail") String thumbnail,
+            @Param("web") String web
+    );
+
+    /**
+     * resolveImage1Ref의 image2 칸
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    UPDATE Ticket t
+       SET t.image2 = :ref,
+           t.image2Thumbnail = :thumbnail,
+           t.image2Web = :web,
+           t.version = t.version + 1,
+           t.updatedAt = CURRENT_TIMESTAMP
+     WHERE t.ticketId = :ticketId
+       AND t.image2 = :pendingRef
+""")
+    int resolveImage2Ref(
+            @Param("ticketId") Long ticketId,
+            @Param("pendingRef") String pendingRef,
+            @Param("ref") String ref,
+            @Param("thumbnail") String thumbnail,
+            @Param("web") String web
+    );
+
+    /**
+     * 업로드 실패한 이미지 참조 제거 ("pending:key" → null)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    UPDATE Ticket t
+       SET t.image1 = CASE WHEN t.image1 = :pendingRef THEN NULL ELSE t.image1 END,
+           t.image2 = CASE WHEN t.image2 = :pendingRef THEN NULL ELSE t.image2 END,
+           t.version = t.version + 1,
+           t.updatedAt = CURRENT_TIMESTAMP
+     WHERE t.ticketId = :ticketId
+       AND (t.image1 = :pendingRef OR t.image2 = :pendingRef)
+""")
+    int clearImageRef(@Param("ticketId") Long ticketId, @Param("pendingRef") String pendingRef);
+
+    @Query("SELECT t.ticketId FROM Ticket t WHERE t.image1 = :ref OR t.image2 = :ref")
+    List<Long> findIdsByImageRef(@Param("ref") String ref);
+
+    /**
+     * 업로드 중("pending:") 참조가 남은 채 [from, before) 동안 수정되지 않은 티켓 (ImageUploadService 정리용)
+     * - updated_at 구간으로 제한해서 idx_ticket_updated_at 범위 조회 (전체 테이블을 훑지 않음)
+     */
+    @Query("""
+    SELECT t FROM Ticket t
+     WHERE t.updatedAt >= :from
+       AND t.updatedAt < :before
+       AND (t.image1 LIKE 'pending:%' OR t.image2 LIKE 'pending:%')
+     ORDER BY t.updatedAt
+""")
+    List<Ticket> findStalePendingImages(
+            @Param("from") LocalDateTime from,
+            @Param("before") LocalDateTime before,
+            Pageable pageable
+    );
+
+    /**
+     * 찜 수 증감 일괄 반영 (FavoriteCounter flush)
+     * - 찜 수만 바뀌므로 version은 그대로 유지 (진행 중인 수정과 충돌하지 않도록)
+     * - updated_at은 갱신 (검색 색인 동기화, reconcile 대상 판단에 사용)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+    UPDATE ticket
+       SET favorite_count = GREATEST(favorite_count + :delta, 0),
+           updated_at = NOW(6)
+     WHERE ticket_id IN (:ticketIds)
+""", nativeQuery = true)
+    int addFavoriteCount(@Param("ticketIds") Collection<Long> ticketIds, @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(MAX(t.ticketId), 0) FROM Ticket t")
+    long findMaxTicketId();
+
+    /**
+     * 찜 수 보정 (FavoriteCounter reconcile) - ticketId 구간 단위
+     * - favorite 테이블의 실제 개수와 다른 행만 변경, version은 그대로 유지
+     * - before 이후 찜 변경/찜 수 반영이 있었던 티켓은 제외
+     *   (어느 인스턴스에 반영 전 증감이 남아 있을 수 있음 → 보정 후 그 증감이 더해지면 이중 반영)
+     * @return 보정된 티켓 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+    UPDATE ticket t
+      LEFT JOIN (SELECT f.ticket_id, COUNT(*) AS cnt
+                   FROM favorite f
+                  WHERE f.ticket_id BETWEEN :fromId AND :toId
+                  GROUP BY f.ticket_id) c
+        ON c.ticket_id = t.ticket_id
+       SET t.favorite_count = COALESCE(c.cnt, 0),
+           t.updated_at = NOW(6)
+     WHERE t.ticket_id BETWEEN :fromId AND :toId
+       AND t.favorite_count <> COALESCE(c.cnt, 0)
+       AND t.updated_at < :before
+       AND NOT EXISTS (SELECT 1
+                         FROM favorite_change fc
+                        WHERE fc.ticket_id = t.ticket_id
+                          AND fc.changed_at >= :before)
+""", nativeQuery = true)
+    int reconcileFavoriteCounts(
+            @Param("fromId") long fromId,
+            @Param("toId") long toId,
+            @Param("before") LocalDateTime before
+    );
+
+    /**
+     * 찜 많은 순 랭킹 구축용 - 찜이 있는 티켓의 (ticketId, categoryId, favoriteCount) 스트리밍 조회
+     * - 호출 측에서 읽기 전용 트랜잭션 안에서 사용하고 반드시 close
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("""
+    SELECT new com.company.ticketservice.repository.TicketFavoriteCount(t.ticketId, t.categoryId, t.favoriteCount)
+      FROM Ticket t
+     WHERE t.ticketStatus = :status
+       AND t.favoriteCount > 0
+""")
+    Stream<TicketFavoriteCount> streamFavoriteCounts(@Param("status") TicketStatus status);
+}
@@ -0,0 +1,28 @@
+package com.company.ticketservice.repository;
+
+import com.company.ticketservice.entity.Ticket;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Spring Data 기본 메서드로 표현하기 어려운 조회/일괄 저장용 커스텀 리포지토리
+ */
+public interface TicketRepositoryCustom {
+
+    /**
+     * 목록용 프로젝션 조회 (count 쿼리 없음)
+     * - 커서 페이지네이션, "다음 페이지 존재 여부" 확인 시 limit = size + 1
+     * - limit이 0 이하면 전체 조회
+     */
+    List<TicketSummary> findSummaries(Specification<Ticket> spec, Sort sort, long offset, int limit);
+
+    /**
+     * 티켓 일괄 INSERT (대량 등록)
+     * - ticketId가 IDENTITY라 Hibernate batch insert가 꺼짐 → JDBC batch로 직접 INSERT
+     *   (rewriteBatchedStatements=true면 multi-row INSERT 한 번으로 전송)
+     * - 생성된 ticketId를 각 Ticket에 설정, 호출한 트랜잭션에 참여
+     */
+    void insertAll(List<Ticket> tickets);
+}
@@ -0,0 +1,137 @@
+package com.company.ticketservice.repository;
+
+import com.company.ticketservice.entity.Ticket;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public class TicketRepositoryCustomImpl implements TicketRepositoryCustom {
+
+    // created_at/updated_at/favorite_count는 엔티티 저장과 같이 DB 기본값 사용
+    private static final String INSERT_TICKET = """
+    INSERT INTO ticket (event_name, event_date, event_location, owner_id, ticket_status,
+                        original_price, selling_price, seat_info, ticket_type, category_id,
+                        description, trade_type, version, created_at, updated_at)
+    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+""";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TicketSummary> findSummaries(Specification<Ticket> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<TicketSummary> query = cb.createQuery(TicketSummary.class);
+        Root<Ticket> root = query.from(Ticket.class);
+
+        query.select(cb.construct(
+                TicketSummary.class,
+                root.get("ticketId"),
+                root.get("eventName"),
+                root.get("eventDate"),
+                root.get("eventLocation"),
+                root.get("ownerId"),
+                root.get("ticketStatus"),
+                root.get("originalPrice"),
+                root.get("sellingPrice"),
+                root.get("seatInfo"),
+                root.get("ticketType"),
+                root.get("categoryId"),
+                root.get("image1"),
+                root.get("image2"),
+                root.get("image1Thumbnail"),
+                root.get("image2Thumbnail"),
+                root.get("tradeType"),
+                root.get("favoriteCount"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+        ));
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        TypedQuery<TicketSummary> typedQuery = em.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset));
+        if (limit > 0) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public void insertAll(List<Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        tickets.forEach(ticket -> {
+            ticket.setCreatedAt(now);
+            ticket.setUpdatedAt(now);
+        });
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_TICKET, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Ticket ticket = tickets.get(i);
+                        ps.setString(1, ticket.getEventName());
+                        ps.setTimestamp(2, Timestamp.valueOf(ticket.getEventDate()));
+                        ps.setString(3, ticket.getEventLocation());
+                        ps.setLong(4, ticket.getOwnerId());
+                        ps.setString(5, ticket.getTicketStatus().name());
+                        ps.setBigDecimal(6, ticket.getOriginalPrice());
+                        ps.setBigDecimal(7, ticket.getSellingPrice());
+                        ps.setString(8, ticket.getSeatInfo());
+                        ps.setString(9, ticket.getTicketType());
+                        ps.setLong(10, ticket.getCategoryId());
+                        ps.setString(11, ticket.getDescription());
+                        ps.setString(12, ticket.getTradeType().name());
+                        ps.setTimestamp(13, Timestamp.valueOf(ticket.getCreatedAt()));
+                        ps.setTimestamp(14, Timestamp.valueOf(ticket.getUpdatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return tickets.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != tickets.size()) {
+            throw new IllegalStateException("생성된 ticketId 수가 INSERT 건수와 다릅니다: " + keys.size() + "/" + tickets.size());
+        }
+        for (int i = 0; i < tickets.size(); i++) {
+            Number ticketId = (Number) keys.get(i).values().iterator().next();
+            tickets.get(i).setTicketId(ticketId.longValue());
+        }
+    }
+}
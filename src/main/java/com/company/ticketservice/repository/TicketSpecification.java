@@ -1,33 +1,100 @@
 package com.company.ticketservice.repository;
 
+import com.company.ticketservice.dto.TicketCursor;
 import com.company.ticketservice.dto.TicketSearchCondition;
 import com.company.ticketservice.entity.Ticket;
 import com.company.ticketservice.entity.TicketStatus;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 public class TicketSpecification {
 
     // 외부에서 이거 하나만 쓰면 됨
     public static Specification<Ticket> fromCondition(TicketSearchCondition cond) {
         return Specification
-                .where(eventNameContains(cond.getEventName()))
-                .and(hasStatus(cond.getTicketStatus()))
+                .where(keywordContains(cond.getEventName()))
+                .and(filtersOf(cond));
+    }
+
+    /**
+     * 키워드 검색 색인으로 찾은 ticketId 목록 + 나머지 필터
+     * - 키워드 LIKE 조건 대신 PK IN 조건 사용
+     */
+    public static Specification<Ticket> fromCondition(TicketSearchCondition cond, Collection<Long> keywordMatchedIds) {
+        return Specification
+                .where(hasTicketIdIn(keywordMatchedIds))
+                .and(filtersOf(cond));
+    }
+
+    private static Specification<Ticket> filtersOf(TicketSearchCondition cond) {
+        return Specification
+                .where(hasStatus(cond.getTicketStatus()))
                 .and(hasOwnerId(cond.getOwnerId()))
                 .and(eventDateAfterOrEqual(cond.getStartDate()))
                 .and(eventDateBeforeOrEqual(cond.getEndDate()))
                 .and(hasCategoryId(cond.getCategoryId()));
     }
 
+    /**
+     * 커서 이후의 행만 조회하는 seek 조건 (OFFSET 대체)
+     * - 정렬 (f1, f2, f3) 기준으로
+     *   f1 > v1 OR (f1 = v1 AND f2 > v2) OR (f1 = v1 AND f2 = v2 AND f3 > v3)
+     * - DESC 정렬 필드는 부등호 방향을 반대로 적용
+     * - 정렬 필드는 NOT NULL 컬럼(eventDate, ticketId)만 사용 (NULL과의 비교는 항상 거짓이라 행이 빠짐)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Ticket> seekAfter(Sort sort, TicketCursor cursor) {
+        return (root, query, cb) -> {
+            List<Predicate> disjunction = new ArrayList<>();
+            List<Predicate> equalPrefix = new ArrayList<>();
+
+            for (Sort.Order order : sort) {
+                Expression<Comparable> path = root.get(order.getProperty());
+                Comparable value = cursor.valueOf(order.getProperty());
+
+                Predicate beyond = order.isAscending()
+                        ? cb.greaterThan(path, value)
+                        : cb.lessThan(path, value);
+
+                List<Predicate> branch = new ArrayList<>(equalPrefix);
+                branch.add(beyond);
+                disjunction.add(cb.and(branch.toArray(new Predicate[0])));
+
+                equalPrefix.add(cb.equal(path, value));
+            }
+            return cb.or(disjunction.toArray(new Predicate[0]));
+        };
+    }
+
     // ========== 개별 조건들 ==========
 
-    private static Specification<Ticket> eventNameContains(String eventName) {
+    // 공연명 또는 공연장에 키워드 포함 (검색 색인을 쓸 수 없을 때의 대체 경로)
+    private static Specification<Ticket> keywordContains(String keyword) {
         return (root, query, cb) -> {
-            if (eventName == null || eventName.isBlank()) {
+            if (keyword == null || keyword.isBlank()) {
                 return null; // 조건 적용 안 함
             }
-            return cb.like(root.get("eventName"), "%" + eventName + "%");
+            String pattern = "%" + keyword.trim() + "%";
+            return cb.or(
+                    cb.like(root.get("eventName"), pattern),
+                    cb.like(root.get("eventLocation"), pattern)
+            );
+        };
+    }
+
+    private static Specification<Ticket> hasTicketIdIn(Collection<Long> ticketIds) {
+        return (root, query, cb) -> {
+            if (ticketIds.isEmpty()) {
+                return cb.disjunction(); // 일치하는 티켓 없음
+            }
+            return root.get("ticketId").in(ticketIds);
         };
     }
 
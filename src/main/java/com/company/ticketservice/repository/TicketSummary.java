@@ -0,0 +1,34 @@
+package com.company.ticketservice.repository;
+
+import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.entity.TradeType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 읽기 전용 프로젝션
+ * - description(TEXT) 등 목록에서 쓰지 않는 컬럼 제외, 영속성 컨텍스트에 올리지 않음
+ */
+public record TicketSummary(
+        Long ticketId,
+        String eventName,
+        LocalDateTime eventDate,
+        String eventLocation,
+        Long ownerId,
+        TicketStatus ticketStatus,
+        BigDecimal originalPrice,
+        BigDecimal sellingPrice,
+        String seatInfo,
+        String ticketType,
+        Long categoryId,
+        String image1,
+        String image2,
+        String image1Thumbnail,
+        String image2Thumbnail,
+        TradeType tradeType,
+        long favoriteCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
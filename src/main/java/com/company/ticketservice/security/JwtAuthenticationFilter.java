@@ -4,21 +4,50 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // SecurityConfig에서 permitAll인 GET/HEAD 조회 경로 (찜 여부 조회는 인증 필요라 제외)
+    private static final RequestMatcher PUBLIC_READ = new OrRequestMatcher(
+            new AndRequestMatcher(
+                    new AntPathRequestMatcher("/api/tickets/**", HttpMethod.GET.name()),
+                    new NegatedRequestMatcher(new AntPathRequestMatcher("/api/tickets/*/favorite", HttpMethod.GET.name()))
+            ),
+            new AntPathRequestMatcher("/api/images/**", HttpMethod.GET.name()),
+            new AntPathRequestMatcher("/api/images/**", HttpMethod.HEAD.name())
+    );
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final RateLimitedLog errorLog;
+
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${jwt.invalid-log-interval:10s}") Duration invalidLogInterval
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.errorLog = new RateLimitedLog(log, invalidLogInterval.toMillis());
+    }
 
     @Override
     protected void doFilterInternal(
@@ -30,27 +59,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = resolveToken(request);
 
         if (token != null) {
-            try {
-                if (jwtTokenProvider.validateToken(token)) {
-                    Authentication authentication =
-                            jwtTokenProvider.getAuthentication(token);
-
-                    SecurityContextHolder.getContext()
-                            .setAuthentication(authentication);
-                } else {
-                    log.debug("[JWT] Token validation failed");
-                }
-
-            } catch (Exception e) {
-                // 인증 정보 제거 (permitAll API는 통과)
-                SecurityContextHolder.clearContext();
-                log.warn("[JWT] Authentication error: {}", e.getMessage());
+            SecurityContextHolderStrategy strategy = SecurityContextHolder.getContextHolderStrategy();
+            if (PUBLIC_READ.matches(request)) {
+                // 공개 조회 경로: 핸들러가 인증 정보를 실제로 꺼낼 때만 검증 (permitAll 인가는 꺼내지 않음)
+                strategy.setDeferredContext(SingletonSupplier.of(() -> createContext(strategy, token)));
+            } else {
+                strategy.setContext(createContext(strategy, token));
             }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private SecurityContext createContext(SecurityContextHolderStrategy strategy, String token) {
+        SecurityContext context = strategy.createEmptyContext();
+        try {
+            Optional<Authentication> authentication = jwtTokenProvider.authenticate(token);
+            if (authentication.isPresent()) {
+                context.setAuthentication(authentication.get());
+            } else {
+                log.debug("[JWT] Token validation failed");
+            }
+
+        } catch (Exception e) {
+            // 인증 정보 없이 진행 (permitAll API는 통과)
+            errorLog.warn(e.getClass().getSimpleName(), "[JWT] Authentication error: " + e.getMessage());
+        }
+        return context;
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
         if (bearer != null && bearer.startsWith("Bearer ")) {
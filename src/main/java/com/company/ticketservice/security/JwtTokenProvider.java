@@ -1,5 +1,8 @@
 package com.company.ticketservice.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -11,46 +14,118 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * JWT 검증 + Authentication 변환
+ * - parser는 한 번만 만들어 재사용 (불변 객체라 스레드 안전)
+ * - 검증된 토큰은 SHA-256 해시를 키로 Authentication을 캐시, 토큰 exp 시각에 제거
+ *   → 같은 토큰의 반복 요청은 서명 검증/파싱 없이 통과
+ * - 거절한 토큰도 잠시 기억해서 다시 파싱하지 않음, 실패 로그는 원인별로 주기당 한 번만 출력
+ */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final Cache<String, CachedAuthentication> authenticationCache;
+    private final Cache<String, String> rejectedTokens;
+    private final RateLimitedLog invalidTokenLog;
+    private final long maxTtlNanos;
 
     public JwtTokenProvider(
-            @Value("${jwt.secret}") String secret
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${jwt.cache.max-ttl:30m}") Duration cacheMaxTtl,
+            @Value("${jwt.cache.rejected-ttl:10m}") Duration rejectedTtl,
+            @Value("${jwt.invalid-log-interval:10s}") Duration invalidLogInterval
     ) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.maxTtlNanos = cacheMaxTtl.toNanos();
+        this.authenticationCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, CachedAuthentication>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.rejectedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(rejectedTtl)
+                .build();
+        this.invalidTokenLog = new RateLimitedLog(log, invalidLogInterval.toMillis());
     }
 
-    /** JWT 유효성 검증 + 로그 */
-    public boolean validateToken(String token) {
+    /**
+     * JWT 검증 후 Authentication 반환 (토큰 한 번만 파싱)
+     * - 캐시에 있으면 검증 생략
+     * - 유효하지 않으면 Optional.empty() + 로그
+     */
+    public Optional<Authentication> authenticate(String token) {
+        String key = hash(token);
+
+        CachedAuthentication cached = authenticationCache.getIfPresent(key);
+        if (cached != null && !cached.isExpired()) {
+            return Optional.of(cached.authentication());
+        }
+        // 이미 거절한 토큰은 다시 파싱하지 않음 (만료 토큰을 계속 보내는 브라우저 등)
+        if (rejectedTokens.getIfPresent(key) != null) {
+            return Optional.empty();
+        }
+
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Authentication authentication = toAuthentication(claims);
+            authenticationCache.put(key, new CachedAuthentication(authentication, expiresAt(claims)));
+            return Optional.of(authentication);
 
         } catch (ExpiredJwtException e) {
             // 만료 토큰
-            log.warn("[JWT] Expired token - exp: {}", e.getClaims().getExpiration());
+            reject(key, "expired", "[JWT] Expired token - exp: " + e.getClaims().getExpiration());
         } catch (UnsupportedJwtException e) {
-            log.warn("[JWT] Unsupported token");
+            reject(key, "unsupported", "[JWT] Unsupported token");
         } catch (MalformedJwtException e) {
-            log.warn("[JWT] Malformed token");
-        } catch (SecurityException e) {
-            log.warn("[JWT] Invalid signature");
+            reject(key, "malformed", "[JWT] Malformed token");
+        } catch (SecurityException | io.jsonwebtoken.security.SecurityException e) {
+            reject(key, "signature", "[JWT] Invalid signature");
+        } catch (NumberFormatException e) {
+            // 서명은 유효하지만 subject가 userId(숫자)가 아님
+            reject(key, "subject", "[JWT] Invalid subject");
         } catch (IllegalArgumentException e) {
-            log.warn("[JWT] Empty or null token");
+            reject(key, "empty", "[JWT] Empty or null token");
         }
 
-        return false;
+        return Optional.empty();
     }
 
-    /** JWT → Authentication 변환 */
-    public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+    private void reject(String key, String reason, String message) {
+        rejectedTokens.put(key, reason);
+        invalidTokenLog.warn(reason, message);
+    }
 
+    /** Claims → Authentication 변환 */
+    private Authentication toAuthentication(Claims claims) {
         Long userId = Long.parseLong(claims.getSubject()); // Account Service와 일치
         String role = claims.get("role", String.class);
 
@@ -66,11 +141,35 @@ public class JwtTokenProvider {
         );
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /** 캐시 만료 시각 (System.nanoTime 기준): 토큰 exp, exp가 없거나 너무 멀면 maxTtl */
+    private long expiresAt(Claims claims) {
+        long now = System.nanoTime();
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return now + maxTtlNanos;
+        }
+        long untilExp = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+        return now + Math.min(Math.max(untilExp, 0), maxTtlNanos);
+    }
+
+    /** 원본 토큰을 메모리에 남기지 않도록 해시를 키로 사용 */
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record CachedAuthentication(Authentication authentication, long expiresAtNanos) {
+
+        long ttlNanos() {
+            return Math.max(0, expiresAtNanos - System.nanoTime());
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
     }
 }
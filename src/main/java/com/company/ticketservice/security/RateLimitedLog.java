@@ -0,0 +1,46 @@
+package com.company.ticketservice.security;
+
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 같은 종류의 WARN 로그를 interval마다 한 번만 남김
+ * - 나머지는 건너뛴 횟수만 세었다가 다음 로그에 함께 출력
+ * - key는 실패 원인처럼 종류가 한정된 값만 사용
+ */
+final class RateLimitedLog {
+
+    private final Logger log;
+    private final long intervalMillis;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    RateLimitedLog(Logger log, long intervalMillis) {
+        this.log = log;
+        this.intervalMillis = intervalMillis;
+    }
+
+    void warn(String key, String message) {
+        Window window = windows.computeIfAbsent(key, k -> new Window());
+        long now = System.currentTimeMillis();
+        long next = window.nextLogAt.get();
+
+        if (now >= next && window.nextLogAt.compareAndSet(next, now + intervalMillis)) {
+            long suppressed = window.suppressed.getAndSet(0);
+            if (suppressed > 0) {
+                log.warn("{} (suppressed {} similar)", message, suppressed);
+            } else {
+                log.warn(message);
+            }
+        } else {
+            window.suppressed.incrementAndGet();
+        }
+    }
+
+    private static final class Window {
+        private final AtomicLong nextLogAt = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+    }
+}
@@ -0,0 +1,150 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.entity.Ticket;
+import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 거래(deal) 이벤트에 따른 티켓 상태 변경
+ * - 배치 단위로 티켓을 한 번에 잠그고, 메시지 순서대로 상태 전이 검증 (같은 티켓은 도착 순서대로)
+ * - 전이마다 기대하는 이전 상태(expectedFrom)를 확인 → 배치를 넘어 순서가 뒤바뀐 이벤트는 적용하지 않음
+ * - 최종 (변경 전, 변경 후) 상태가 같은 티켓끼리 묶어서 일괄 UPDATE
+ * - 상태 변경 이벤트는 같은 트랜잭션에서 아웃박스에 기록
+ * - 처리한 eventId도 같은 트랜잭션에서 기록 → 재수신 시 DUPLICATE
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DealEventService {
+
+    private final TicketRepository ticketRepository;
+    private final TicketEventOutbox ticketEventOutbox;
+    private final TicketDetailCache ticketDetailCache;
+    private final TicketSearchCache ticketSearchCache;
+    private final ProcessedEventStore processedEventStore;
+
+    /**
+     * @return transitions와 같은 순서의 처리 결과
+     */
+    @Transactional
+    public List<Outcome> apply(List<Transition> transitions) {
+        Set<Long> ticketIds = transitions.stream()
+                .map(Transition::ticketId)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Map<Long, Ticket> tickets = ticketRepository.findAllForUpdate(ticketIds).stream()
+                .collect(Collectors.toMap(Ticket::getTicketId, Function.identity()));
+
+        Map<Long, TicketStatus> current = new HashMap<>();
+        tickets.forEach((ticketId, ticket) -> current.put(ticketId, ticket.getTicketStatus()));
+
+        List<Outcome> outcomes = new ArrayList<>(transitions.size());
+        for (Transition transition : transitions) {
+            Ticket ticket = tickets.get(transition.ticketId());
+            if (ticket == null) {
+                outcomes.add(Outcome.NOT_FOUND);
+                continue;
+            }
+
+            TicketStatus from = current.get(transition.ticketId());
+            if (from == transition.target()) {
+                // 이미 대상 상태
+                markProcessed(transition);
+                outcomes.add(Outcome.SKIPPED);
+                continue;
+            }
+            if (from != transition.expectedFrom() || !from.canChangeTo(transition.target())) {
+                outcomes.add(Outcome.INVALID);
+                continue;
+            }
+            if (!markProcessed(transition)) {
+                // 다른 소비자/같은 배치에서 이미 처리한 이벤트
+                outcomes.add(Outcome.DUPLICATE);
+                continue;
+            }
+
+            current.put(transition.ticketId(), transition.target());
+            ticketEventOutbox.append(
+                "ticket.status.changed",
+                ticket.getTicketId(),
+                Map.of(
+                    "ticketId", ticket.getTicketId(),
+                    "ownerId", ticket.getOwnerId(),
+                    "oldStatus", from.name(),
+                    "newStatus", transition.target().name()
+                )
+            );
+            outcomes.add(Outcome.APPLIED);
+        }
+
+        applyBulk(tickets, current);
+        return outcomes;
+    }
+
+    private boolean markProcessed(Transition transition) {
+        return transition.eventId() == null
+                || processedEventStore.markProcessed(transition.eventId(), transition.eventType());
+    }
+
+    private void applyBulk(Map<Long, Ticket> tickets, Map<Long, TicketStatus> current) {
+        Map<Change, List<Long>> changes = new LinkedHashMap<>();
+        Set<TicketStatus> affectedStatuses = EnumSet.noneOf(TicketStatus.class);
+
+        tickets.forEach((ticketId, ticket) -> {
+            TicketStatus to = current.get(ticketId);
+            if (ticket.getTicketStatus() != to) {
+                changes.computeIfAbsent(new Change(ticket.getTicketStatus(), to), c -> new ArrayList<>()).add(ticketId);
+                affectedStatuses.add(ticket.getTicketStatus());
+                affectedStatuses.add(to);
+            }
+        });
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<Long> changedIds = new ArrayList<>();
+        changes.forEach((change, ids) -> {
+            ticketRepository.updateStatusByIds(ids, change.from(), change.to());
+            changedIds.addAll(ids);
+        });
+
+        ticketDetailCache.invalidateAll(changedIds);
+        ticketSearchCache.invalidateStatuses(affectedStatuses.toArray(TicketStatus[]::new));
+        log.info("[DEAL-EVENT] Updated ticket status: {}", changes);
+    }
+
+    public record Transition(
+            String eventId,
+            String eventType,
+            Long ticketId,
+            Long dealId,
+            TicketStatus expectedFrom,
+            TicketStatus target
+    ) {
+    }
+
+    public enum Outcome {
+        APPLIED,    // 상태 변경됨
+        SKIPPED,    // 이미 대상 상태 (중복 메시지)
+        INVALID,    // 현재 상태가 expectedFrom이 아니거나 전이 불가 (순서 뒤바뀜 등)
+        DUPLICATE,  // 이미 처리된 이벤트
+        NOT_FOUND   // 티켓 없음
+    }
+
+    private record Change(TicketStatus from, TicketStatus to) {
+    }
+}
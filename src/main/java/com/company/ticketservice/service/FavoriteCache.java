@@ -0,0 +1,159 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.entity.FavoriteChange;
+import com.company.ticketservice.repository.FavoriteChangeRepository;
+import com.company.ticketservice.repository.FavoriteRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 찜 ticketId 캐시
+ * - userId → 정렬된 long[] (박싱 없는 불변 배열, 조회는 binary search라 락 없음)
+ * - 첫 조회 시 DB에서 적재, 최대 사용자 수를 넘으면 오래 안 쓴 사용자부터 제거
+ * - 찜 추가/삭제는 커밋 후 배열을 새로 만들어 교체 (write-through)
+ * - 다른 인스턴스 변경: favorite_change 테이블을 주기적으로 조회해서 해당 사용자 캐시 제거
+ */
+@Slf4j
+@Component
+public class FavoriteCache {
+
+    public static final String CACHE_NAME = "favorite.user";
+
+    private static final long[] EMPTY = new long[0];
+
+    private final FavoriteRepository favoriteRepository;
+    private final FavoriteChangeRepository favoriteChangeRepository;
+    private final Cache<Long, long[]> cache;
+    private final Duration syncOverlap;
+    private final Duration retention;
+
+    private volatile LocalDateTime lastSyncedAt = LocalDateTime.now();
+
+    public FavoriteCache(
+            FavoriteRepository favoriteRepository,
+            FavoriteChangeRepository favoriteChangeRepository,
+            MeterRegistry meterRegistry,
+            @Value("${ticket.favorite.cache.max-users:100000}") long maxUsers,
+            @Value("${ticket.favorite.cache.expire-after-access:30m}") Duration expireAfterAccess,
+            @Value("${ticket.favorite.cache.sync-overlap:5s}") Duration syncOverlap,
+            @Value("${ticket.favorite.cache.change-retention:1h}") Duration retention
+    ) {
+        this.favoriteRepository = favoriteRepository;
+        this.favoriteChangeRepository = favoriteChangeRepository;
+        this.syncOverlap = syncOverlap;
+        this.retention = retention;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean contains(Long userId, Long ticketId) {
+        return ticketId != null && Arrays.binarySearch(load(userId), ticketId) >= 0;
+    }
+
+    /** ticketIds 중 찜한 것만 (입력 순서 유지) */
+    public Set<Long> retain(Long userId, Collection<Long> ticketIds) {
+        long[] favorites = load(userId);
+        Set<Long> result = new LinkedHashSet<>();
+        for (Long ticketId : ticketIds) {
+            if (ticketId != null && Arrays.binarySearch(favorites, ticketId) >= 0) {
+                result.add(ticketId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 찜 추가/삭제 반영 (호출한 트랜잭션 안에서)
+     * - 변경 신호 기록 + 커밋 후 이 인스턴스 캐시에 바로 반영
+     * - 캐시에 없는 사용자는 다음 조회 시 DB에서 적재
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void changed(Long userId, Long ticketId, boolean favorite) {
+        favoriteChangeRepository.save(FavoriteChange.builder()
+                .userId(userId)
+                .ticketId(ticketId)
+                .changedAt(LocalDateTime.now())
+                .build());
+
+        AfterCommit.run(() -> cache.asMap().computeIfPresent(userId,
+                (id, favorites) -> favorite ? with(favorites, ticketId) : without(favorites, ticketId)));
+    }
+
+    /**
+     * 다른 인스턴스의 찜 변경 반영
+     * - 커밋 지연/시계 차이를 고려해 sync-overlap만큼 겹쳐서 조회 (같은 사용자를 여러 번 제거해도 무해)
+     */
+    @Scheduled(fixedDelayString = "${ticket.favorite.cache.sync-interval:1000}")
+    public void syncRecentChanges() {
+        LocalDateTime syncPoint = LocalDateTime.now();
+        List<Long> userIds = favoriteChangeRepository.findUserIdsChangedSince(lastSyncedAt.minus(syncOverlap));
+        if (!userIds.isEmpty()) {
+            cache.invalidateAll(userIds);
+        }
+        lastSyncedAt = syncPoint;
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.favorite.cache.prune-interval:600000}")
+    public void pruneChanges() {
+        int deleted = favoriteChangeRepository.deleteChangedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.debug("[FAVORITE-CACHE] Pruned {} change records", deleted);
+        }
+    }
+
+    private long[] load(Long userId) {
+        return cache.get(userId, id -> {
+            List<Long> ticketIds = favoriteRepository.findTicketIdsByUserId(id);
+            if (ticketIds.isEmpty()) {
+                return EMPTY;
+            }
+            long[] favorites = ticketIds.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(favorites);
+            return favorites;
+        });
+    }
+
+    private static long[] with(long[] favorites, long ticketId) {
+        int index = Arrays.binarySearch(favorites, ticketId);
+        if (index >= 0) {
+            return favorites;
+        }
+        int insertAt = -index - 1;
+        long[] result = new long[favorites.length + 1];
+        System.arraycopy(favorites, 0, result, 0, insertAt);
+        result[insertAt] = ticketId;
+        System.arraycopy(favorites, insertAt, result, insertAt + 1, favorites.length - insertAt);
+        return result;
+    }
+
+    private static long[] without(long[] favorites, long ticketId) {
+        int index = Arrays.binarySearch(favorites, ticketId);
+        if (index < 0) {
+            return favorites;
+        }
+        long[] result = new long[favorites.length - 1];
+        System.arraycopy(favorites, 0, result, 0, index);
+        System.arraycopy(favorites, index + 1, result, index, favorites.length - index - 1);
+        return result;
+    }
+}
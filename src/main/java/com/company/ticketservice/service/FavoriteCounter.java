@@ -0,0 +1,133 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.repository.TicketRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 티켓별 찜 수 증감 누적 → ticket.favorite_count에 일괄 반영
+ * - 찜 추가/삭제 커밋 후 메모리에 ±1 누적 (ConcurrentHashMap 버킷 단위 잠금이라 다른 티켓끼리는 경합 없음)
+ * - flush-interval마다 누적값을 꺼내서 같은 증감값끼리 묶어 UPDATE ... IN 한 번으로 반영
+ * - 인스턴스마다 자기 증감분만 더하므로 여러 인스턴스가 동시에 반영해도 합계가 맞음
+ * - 반영 실패 시 다음 주기에 다시 시도, 종료 시 남은 값 반영
+ * - 비정상 종료 등으로 유실된 증감은 reconcile-interval마다 favorite 테이블 기준으로 보정 (lease 가진 인스턴스 한 곳)
+ */
+@Slf4j
+@Component
+public class FavoriteCounter {
+
+    private static final String RECONCILE_LEASE_NAME = "favorite-count-reconcile";
+
+    private final TicketRepository ticketRepository;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final int batchSize;
+    private final int reconcileChunkSize;
+    private final Duration reconcileLeaseTtl;
+    private final Duration reconcileSettle;
+
+    // ticketId -> 아직 반영하지 않은 증감 (0이 되면 제거)
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public FavoriteCounter(
+            TicketRepository ticketRepository,
+            SchedulerLeaseService schedulerLeaseService,
+            @Value("${ticket.favorite.counter.batch-size:500}") int batchSize,
+            @Value("${ticket.favorite.counter.reconcile-chunk-size:1000}") int reconcileChunkSize,
+            @Value("${ticket.favorite.counter.reconcile-lease-ttl:10m}") Duration reconcileLeaseTtl,
+            @Value("${ticket.favorite.counter.reconcile-settle:1m}") Duration reconcileSettle
+    ) {
+        this.ticketRepository = ticketRepository;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.batchSize = batchSize;
+        this.reconcileChunkSize = reconcileChunkSize;
+        this.reconcileLeaseTtl = reconcileLeaseTtl;
+        this.reconcileSettle = reconcileSettle;
+    }
+
+    /** 찜 수 증감 기록 (트랜잭션 안이면 커밋 후 누적) */
+    public void record(Long ticketId, long delta) {
+        AfterCommit.run(() -> accumulate(ticketId, delta));
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.favorite.counter.flush-interval:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // remove는 같은 키의 merge와 원자적으로 처리되므로 꺼낸 뒤 들어온 증감은 다음 주기로 넘어감
+        Map<Long, List<Long>> ticketIdsByDelta = new HashMap<>();
+        for (Long ticketId : pending.keySet()) {
+            Long delta = pending.remove(ticketId);
+            if (delta != null) {
+                ticketIdsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(ticketId);
+            }
+        }
+
+        int updated = 0;
+        for (Map.Entry<Long, List<Long>> entry : ticketIdsByDelta.entrySet()) {
+            long delta = entry.getKey();
+            List<Long> ticketIds = entry.getValue();
+            for (int from = 0; from < ticketIds.size(); from += batchSize) {
+                List<Long> chunk = ticketIds.subList(from, Math.min(from + batchSize, ticketIds.size()));
+                try {
+                    updated += ticketRepository.addFavoriteCount(chunk, delta);
+                } catch (Exception e) {
+                    log.warn("[FAVORITE-COUNTER] Flush failed for {} tickets, will retry: {}", chunk.size(), e.getMessage());
+                    chunk.forEach(ticketId -> accumulate(ticketId, delta));
+                }
+            }
+        }
+        log.debug("[FAVORITE-COUNTER] Flushed favorite counts for {} tickets", updated);
+    }
+
+    /**
+     * favorite_count를 favorite 테이블의 실제 개수로 보정
+     * - ticketId 구간(reconcile-chunk-size)마다 UPDATE 한 번, 값이 다른 행만 변경 (구간마다 커밋)
+     * - 다른 인스턴스에 반영 전 증감이 남아 있을 수 있으므로 reconcile-settle 동안 찜 변경/반영이 없던 티켓만 보정
+     *   (reconcile-settle은 flush-interval보다 충분히 길어야 함, 건너뛴 티켓은 다음 보정 때 맞춰짐)
+     */
+    @Scheduled(fixedDelayString = "${ticket.favorite.counter.reconcile-interval:3600000}",
+            initialDelayString = "${ticket.favorite.counter.reconcile-interval:3600000}")
+    public void reconcile() {
+        if (!schedulerLeaseService.tryAcquire(RECONCILE_LEASE_NAME, reconcileLeaseTtl)) {
+            return;
+        }
+        try {
+            flush();
+            LocalDateTime before = LocalDateTime.now().minus(reconcileSettle);
+            long maxTicketId = ticketRepository.findMaxTicketId();
+            int corrected = 0;
+            for (long fromId = 1; fromId <= maxTicketId; fromId += reconcileChunkSize) {
+                corrected += ticketRepository.reconcileFavoriteCounts(fromId, fromId + reconcileChunkSize - 1, before);
+            }
+            if (corrected > 0) {
+                log.info("[FAVORITE-COUNTER] Reconciled favorite counts for {} tickets", corrected);
+            }
+        } catch (Exception e) {
+            log.warn("[FAVORITE-COUNTER] Reconcile failed, will retry next run: {}", e.getMessage());
+        } finally {
+            schedulerLeaseService.release(RECONCILE_LEASE_NAME);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void accumulate(Long ticketId, long delta) {
+        pending.merge(ticketId, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+}
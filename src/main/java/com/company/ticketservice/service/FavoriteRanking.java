@@ -0,0 +1,108 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.repository.TicketFavoriteCount;
+import com.company.ticketservice.repository.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * 카테고리별 찜 많은 순 top-K
+ * - refresh-interval마다 찜이 있는 AVAILABLE 티켓의 favorite_count를 스트리밍 조회해서
+ *   카테고리별 크기 K의 min-heap으로 상위 K개만 유지 (favorite 테이블은 조회하지 않음)
+ * - 조회는 마지막으로 만든 스냅샷에서 바로 반환
+ */
+@Slf4j
+@Component
+public class FavoriteRanking {
+
+    // 찜 수 내림차순, 같으면 먼저 등록된 티켓 우선
+    private static final Comparator<TicketFavoriteCount> RANK =
+            Comparator.comparingLong(TicketFavoriteCount::favoriteCount).reversed()
+                    .thenComparing(TicketFavoriteCount::ticketId);
+
+    private final TicketRepository ticketRepository;
+    private final int capacity;
+
+    // categoryId -> 순위순 ticketId
+    private volatile Map<Long, long[]> topByCategory = Map.of();
+    private volatile long[] topOverall = new long[0];
+
+    public FavoriteRanking(
+            TicketRepository ticketRepository,
+            @Value("${ticket.favorite.ranking.size:100}") int capacity
+    ) {
+        this.ticketRepository = ticketRepository;
+        this.capacity = capacity;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 찜 많은 순 ticketId (categoryId가 null이면 전체)
+     */
+    public List<Long> top(Long categoryId, int limit) {
+        long[] ranked = categoryId == null ? topOverall : topByCategory.getOrDefault(categoryId, new long[0]);
+        return Arrays.stream(ranked).limit(Math.max(0, limit)).boxed().toList();
+    }
+
+    // 첫 실행은 스케줄러 시작 직후 (initialDelay 0)
+    @Scheduled(fixedDelayString = "${ticket.favorite.ranking.refresh-interval:30000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        Map<Long, PriorityQueue<TicketFavoriteCount>> heaps = new HashMap<>();
+        PriorityQueue<TicketFavoriteCount> overall = newHeap();
+
+        try (Stream<TicketFavoriteCount> rows = ticketRepository.streamFavoriteCounts(TicketStatus.AVAILABLE)) {
+            Iterator<TicketFavoriteCount> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TicketFavoriteCount row = iterator.next();
+                offer(overall, row);
+                if (row.categoryId() != null) {
+                    offer(heaps.computeIfAbsent(row.categoryId(), c -> newHeap()), row);
+                }
+            }
+        }
+
+        Map<Long, long[]> snapshot = new HashMap<>();
+        heaps.forEach((categoryId, heap) -> snapshot.put(categoryId, ranked(heap)));
+        topByCategory = snapshot;
+        topOverall = ranked(overall);
+        log.debug("[FAVORITE-RANKING] Refreshed top {} for {} categories", capacity, snapshot.size());
+    }
+
+    private PriorityQueue<TicketFavoriteCount> newHeap() {
+        // 루트가 현재 K개 중 가장 낮은 순위
+        return new PriorityQueue<>(RANK.reversed());
+    }
+
+    private void offer(PriorityQueue<TicketFavoriteCount> heap, TicketFavoriteCount row) {
+        if (heap.size() < capacity) {
+            heap.add(row);
+        } else if (RANK.compare(row, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(row);
+        }
+    }
+
+    private static long[] ranked(PriorityQueue<TicketFavoriteCount> heap) {
+        return heap.stream()
+                .sorted(RANK)
+                .mapToLong(TicketFavoriteCount::ticketId)
+                .toArray();
+    }
+}
@@ -1,51 +1,91 @@
 package com.company.ticketservice.service;
 
+import com.company.ticketservice.dto.TicketSummaryResponse;
 import com.company.ticketservice.entity.Favorite;
+import com.company.ticketservice.exception.BadRequestException;
 import com.company.ticketservice.repository.FavoriteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FavoriteService {
 
+    // 일괄 조회 최대 개수 (목록 한 페이지 분량)
+    public static final int MAX_LOOKUP_SIZE = 100;
+
     private final FavoriteRepository favoriteRepository;
+    private final FavoriteCache favoriteCache;
+    private final FavoriteCounter favoriteCounter;
 
     /**
      * 찜하기 추가/제거 (토글)
+     * - 먼저 DELETE, 지운 행이 없으면 INSERT IGNORE → 조회 후 변경 사이의 경쟁 없음
+     * - DELETE를 먼저 하는 이유: 이미 찜한 경우 INSERT IGNORE가 auto increment 값을 소모하지 않도록
      */
     @Transactional
     public boolean toggleFavorite(Long userId, Long ticketId) {
-        Optional<Favorite> existing = favoriteRepository.findByUserIdAndTicketId(userId, ticketId);
-        
-        if (existing.isPresent()) {
-            // 이미 찜하기가 있으면 제거
-            favoriteRepository.delete(existing.get());
+        if (favoriteRepository.deleteFavorite(userId, ticketId) > 0) {
+            favoriteCache.changed(userId, ticketId, false);
+            favoriteCounter.record(ticketId, -1);
             log.info("찜하기 제거: userId={}, ticketId={}", userId, ticketId);
             return false;
-        } else {
-            // 찜하기 추가
-            Favorite favorite = Favorite.builder()
-                    .userId(userId)
-                    .ticketId(ticketId)
-                    .build();
-            favoriteRepository.save(favorite);
+        }
+
+        if (favoriteRepository.insertIgnore(userId, ticketId) > 0) {
+            favoriteCache.changed(userId, ticketId, true);
+            favoriteCounter.record(ticketId, 1);
             log.info("찜하기 추가: userId={}, ticketId={}", userId, ticketId);
-            return true;
         }
+        // 0이면 다른 요청이 먼저 추가한 것 → 이미 찜한 상태
+        return true;
     }
 
     /**
-     * 찜하기 여부 확인
+     * 찜하기 여부 확인 (FavoriteCache, 캐시에 없는 사용자만 DB 적재)
      */
     public boolean isFavorite(Long userId, Long ticketId) {
-        return favoriteRepository.existsByUserIdAndTicketId(userId, ticketId);
+        return favoriteCache.contains(userId, ticketId);
+    }
+
+    /**
+     * 찜 여부 일괄 조회
+     * - 전달한 ticketId 중 찜한 것만 반환 (FavoriteCache에서 확인)
+     */
+    public Set<Long> findFavoriteTicketIds(Long userId, Collection<Long> ticketIds) {
+        Set<Long> ids = new LinkedHashSet<>(ticketIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        if (ids.size() > MAX_LOOKUP_SIZE) {
+            throw new BadRequestException("찜 여부는 한 번에 " + MAX_LOOKUP_SIZE + "개까지 조회할 수 있습니다.");
+        }
+        return favoriteCache.retain(userId, ids);
+    }
+
+    /**
+     * 목록 응답에 찜 여부 표시
+     * - 캐시된 응답 객체는 공유되므로 복사본에 표시해서 반환
+     * - 메모리 캐시 조회라 개수 제한 없음 (MAX_LOOKUP_SIZE는 /api/favorites 일괄 조회에만 적용)
+     */
+    public List<TicketSummaryResponse> markFavorites(Long userId, List<TicketSummaryResponse> tickets) {
+        if (tickets.isEmpty()) {
+            return tickets;
+        }
+        Set<Long> favorites = favoriteCache.retain(userId,
+                tickets.stream().map(TicketSummaryResponse::getTicketId).toList());
+        return tickets.stream()
+                .map(ticket -> ticket.withFavorite(favorites.contains(ticket.getTicketId())))
+                .toList();
     }
 
     /**
@@ -60,7 +100,10 @@ public class FavoriteService {
      */
     @Transactional
     public void removeFavorite(Long userId, Long ticketId) {
-        favoriteRepository.deleteByUserIdAndTicketId(userId, ticketId);
+        if (favoriteRepository.deleteByUserIdAndTicketId(userId, ticketId) > 0) {
+            favoriteCache.changed(userId, ticketId, false);
+            favoriteCounter.record(ticketId, -1);
+        }
         log.info("찜하기 삭제: userId={}, ticketId={}", userId, ticketId);
     }
 }
@@ -0,0 +1,141 @@
+package com.company.ticketservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 사용자/티켓의 연속 찜 토글 합치기
+ * - 처리 중인 토글이 있으면 뒤따라온 요청은 DB로 가지 않고 횟수만 더한 뒤 결과를 기다림
+ * - 앞 요청이 끝나면 모인 횟수가 홀수일 때만 한 번 더 토글 (짝수면 상쇄) → 모든 요청이 최종 상태를 받음
+ * - 대기 시간을 추가하지 않음 (처리 중인 동안 들어온 요청만 합쳐짐)
+ * - 다른 인스턴스와 겹친 경우 락 경합(교착 등)으로 실패한 토글은 롤백되므로 몇 번 다시 시도
+ */
+@Slf4j
+@Component
+public class FavoriteToggleCoalescer {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final Map<Key, Batch> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter appliedCounter;
+    private final Counter coalescedCounter;
+
+    public FavoriteToggleCoalescer(MeterRegistry meterRegistry) {
+        this.appliedCounter = Counter.builder("ticket.favorite.toggle")
+                .description("찜 토글 처리 결과")
+                .tag("result", "applied")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("ticket.favorite.toggle")
+                .description("찜 토글 처리 결과")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * toggle을 실행하고 최종 찜 여부 반환
+     * @param toggle 찜 토글 한 번 (트랜잭션 단위), 토글 후 찜 여부 반환
+     */
+    public boolean toggle(Long userId, Long ticketId, Supplier<Boolean> toggle) {
+        Key key = new Key(userId, ticketId);
+        while (true) {
+            Batch batch = new Batch();
+            Batch existing = inFlight.putIfAbsent(key, batch);
+            if (existing == null) {
+                return lead(key, batch, toggle);
+            }
+            if (existing.join()) {
+                coalescedCounter.increment();
+                return await(existing);
+            }
+            // 막 끝난 배치면 다시 시도 (새 배치의 리더가 되거나 합류)
+        }
+    }
+
+    private boolean lead(Key key, Batch batch, Supplier<Boolean> toggle) {
+        try {
+            boolean favorite = apply(toggle);
+            int followers;
+            while ((followers = batch.drain()) > 0) {
+                if (followers % 2 == 1) {
+                    favorite = apply(toggle);
+                }
+            }
+            inFlight.remove(key, batch);
+            batch.result.complete(favorite);
+            return favorite;
+        } catch (RuntimeException e) {
+            batch.close();
+            inFlight.remove(key, batch);
+            batch.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private boolean apply(Supplier<Boolean> toggle) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                boolean favorite = toggle.get();
+                appliedCounter.increment();
+                return favorite;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("[FAVORITE] Toggle lock conflict, retrying ({}/{})", attempt, MAX_ATTEMPTS);
+            }
+        }
+    }
+
+    private boolean await(Batch batch) {
+        try {
+            return batch.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(Long userId, Long ticketId) {
+    }
+
+    private static final class Batch {
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        private int followers;
+        private boolean closed;
+
+        /** 진행 중인 배치에 합류, 이미 마감됐으면 false */
+        synchronized boolean join() {
+            if (closed) {
+                return false;
+            }
+            followers++;
+            return true;
+        }
+
+        /** 모인 요청 수를 꺼내고, 없으면 배치 마감 */
+        synchronized int drain() {
+            int drained = followers;
+            followers = 0;
+            if (drained == 0) {
+                closed = true;
+            }
+            return drained;
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.company.ticketservice.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (스레드 안전하지 않음 - 호출 측에서 동기화)
+ * - 최하위 휠: tickMs 간격 slot wheelSize개, 상위 휠은 하위 휠 한 바퀴가 tick 하나
+ *   (기본 1초 x 60 → 1분 x 60 → 1시간 x 60 ...)
+ * - 상위 휠의 slot에 도달하면 그 slot 타이머를 하위 휠로 내려보냄
+ * - 최하위 휠은 slot 구간이 끝난 뒤에 실행하므로 deadline보다 먼저 실행되지 않음
+ */
+final class HierarchicalTimingWheel {
+
+    record Timer(long ticketId, long deadlineMs) {
+    }
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long intervalMs;
+    private final List<ArrayDeque<Timer>> buckets;
+    private final HierarchicalTimingWheel root;
+
+    private long currentTime;
+    private HierarchicalTimingWheel overflow;
+
+    HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        this(tickMs, wheelSize, startMs, null);
+    }
+
+    private HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs, HierarchicalTimingWheel root) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.intervalMs = tickMs * wheelSize;
+        this.currentTime = startMs - (startMs % tickMs);
+        this.root = root == null ? this : root;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * 타이머 추가
+     * @return false면 deadline이 이미 지난 타이머 (호출 측에서 즉시 실행)
+     */
+    boolean add(Timer timer) {
+        if (timer.deadlineMs() < currentTime) {
+            return false;
+        }
+        if (timer.deadlineMs() < currentTime + intervalMs) {
+            bucketOf(timer.deadlineMs()).add(timer);
+            return true;
+        }
+        return overflow().add(timer);
+    }
+
+    /**
+     * now까지 시간 진행 (최하위 휠에서만 호출)
+     * - deadline이 지난 타이머를 expired로 전달
+     */
+    void advance(long now, Consumer<Timer> expired) {
+        while (currentTime + tickMs <= now) {
+            ArrayDeque<Timer> bucket = bucketOf(currentTime);
+            while (!bucket.isEmpty()) {
+                expired.accept(bucket.poll());
+            }
+            currentTime += tickMs;
+            if (overflow != null) {
+                overflow.cascade(currentTime, expired);
+            }
+        }
+    }
+
+    /** 상위 휠: time이 속한 slot까지 진행하면서 도달한 slot 타이머를 최하위 휠부터 다시 배치 */
+    private void cascade(long time, Consumer<Timer> expired) {
+        long target = time - (time % tickMs);
+        while (currentTime < target) {
+            currentTime += tickMs;
+            ArrayDeque<Timer> bucket = bucketOf(currentTime);
+            while (!bucket.isEmpty()) {
+                Timer timer = bucket.poll();
+                if (!root.add(timer)) {
+                    expired.accept(timer);
+                }
+            }
+        }
+        if (overflow != null) {
+            overflow.cascade(time, expired);
+        }
+    }
+
+    private HierarchicalTimingWheel overflow() {
+        if (overflow == null) {
+            overflow = new HierarchicalTimingWheel(intervalMs, wheelSize, currentTime, root);
+        }
+        return overflow;
+    }
+
+    private ArrayDeque<Timer> bucketOf(long timeMs) {
+        return buckets.get((int) ((timeMs / tickMs) % wheelSize));
+    }
+}
@@ -0,0 +1,181 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.entity.ImageBlob;
+import com.company.ticketservice.entity.ImageRef;
+import com.company.ticketservice.repository.ImageBlobRepository;
+import com.company.ticketservice.service.ImageVariantGenerator.Variant;
+import com.company.ticketservice.storage.ImageStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 이미지 내용 기준 중복 제거 + 참조 수 관리
+ * - 같은 내용(SHA-256)은 저장소에 한 번만 저장, 티켓 image1/image2가 참조할 때마다 refCount 증가
+ * - 이미 저장된 blob이면 업로드/축소본 생성 생략
+ * - 티켓 삭제/이미지 교체 시 release → refCount 0인 blob은 주기적으로 저장소에서 삭제
+ * - 삭제는 행 삭제 커밋 후 저장소 삭제 순서 (저장소 삭제 실패 시 고아 객체 허용)
+ * - 저장소 key는 blob 행마다 새로 정함 (해시 + 세대) → 삭제된 행의 key와 다시 만든 행의 key가 겹치지 않음
+ */
+@Slf4j
+@Component
+public class ImageBlobStore {
+
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    private static final String PURGE_LEASE_NAME = "image-blob-purge";
+    private static final SecureRandom GENERATION_RANDOM = new SecureRandom();
+
+    public record Blob(String contentHash, String key, boolean stored, String thumbnailKey, String webKey) {
+
+        public boolean hasVariants() {
+            return thumbnailKey != null && webKey != null;
+        }
+    }
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageStorage imageStorage;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final int purgeBatchSize;
+    private final Duration purgeLeaseTtl;
+
+    public ImageBlobStore(
+            ImageBlobRepository imageBlobRepository,
+            ImageStorage imageStorage,
+            SchedulerLeaseService schedulerLeaseService,
+            TransactionTemplate transactionTemplate,
+            @Value("${ticket.image.blob.purge-batch-size:100}") int purgeBatchSize,
+            @Value("${ticket.image.blob.purge-lease-ttl:5m}") Duration purgeLeaseTtl
+    ) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageStorage = imageStorage;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.transactionTemplate = transactionTemplate;
+        this.purgeBatchSize = purgeBatchSize;
+        this.purgeLeaseTtl = purgeLeaseTtl;
+    }
+
+    /**
+     * 파일 내용 SHA-256 (hex)
+     * - direct buffer로 순차 읽기 (staging 파일은 방금 쓴 파일이라 대부분 page cache에서 읽힘)
+     */
+    public static String contentHash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 새 blob 행의 저장소 key = 내용 해시 + "-" + 세대(임의값) + 확장자
+     * - 삭제 작업이 행을 지운 직후 같은 내용이 다시 올라와도 다른 key에 저장
+     *   → 삭제 작업은 자기가 지운 행의 key만 지우므로 새 행이 가리키는 객체는 건드리지 않음
+     */
+    public static String blobKey(String contentHash, String extension) {
+        return contentHash + "-" + HexFormat.of().toHexDigits(GENERATION_RANDOM.nextLong()) + extension;
+    }
+
+    /**
+     * 참조 추가
+     * - 처음 보는 내용이면 key로 새 blob 생성 (stored=false → 호출 측에서 업로드 후 markStored)
+     * - 이미 있으면 기존 blob의 key 반환 (확장자가 달라도 내용이 같으면 같은 blob)
+     */
+    @Transactional
+    public Blob acquire(String contentHash, String key) {
+        imageBlobRepository.acquire(contentHash, key, LocalDateTime.now());
+        ImageBlob blob = imageBlobRepository.findById(contentHash)
+                .orElseThrow(() -> new IllegalStateException("Image blob not found: " + contentHash));
+        return new Blob(blob.getContentHash(), blob.getBlobKey(), blob.isStored(),
+                blob.getThumbnailKey(), blob.getWebKey());
+    }
+
+    /**
+     * 업로드 완료 기록 (축소본 key는 null이면 기존 값 유지)
+     */
+    @Transactional
+    public void markStored(String contentHash, String thumbnailKey, String webKey) {
+        imageBlobRepository.markStored(contentHash, thumbnailKey, webKey);
+    }
+
+    /**
+     * 참조 제거 (호출한 트랜잭션에 참여 → 티켓 삭제/이미지 교체가 롤백되면 같이 롤백)
+     * - 업로드 중 참조("pending:")는 업로드가 끝날 때 ImageUploadService가 제거
+     * - blob 행이 없는 key(중복 제거 도입 전 업로드)는 무시
+     */
+    @Transactional
+    public void release(String ref) {
+        if (ref == null || ImageRef.isPending(ref)) {
+            return;
+        }
+        imageBlobRepository.release(ref);
+    }
+
+    /**
+     * refCount 0인 blob을 원본/축소본과 함께 삭제
+     * - lease를 가진 인스턴스 한 곳에서만 실행
+     * - 행 삭제를 먼저 커밋하고 저장소 삭제는 트랜잭션 밖에서 진행 (원격 호출 동안 행 잠금 없음)
+     * - 저장소 삭제는 없는 key면 무시하고, 실패하면 고아 객체로 남김 (참조하는 행이 없으므로 조회되지 않음)
+     * - 그 사이 같은 내용이 다시 올라와 행이 새로 생겨도 새 행은 다른 key(blobKey의 세대)라 그대로 삭제
+     */
+    @Scheduled(fixedDelayString = "${ticket.image.blob.purge-interval:60000}")
+    public void purgeUnreferenced() {
+        if (!schedulerLeaseService.tryAcquire(PURGE_LEASE_NAME, purgeLeaseTtl)) {
+            return;
+        }
+        try {
+            List<ImageBlob> blobs = transactionTemplate.execute(status -> {
+                List<ImageBlob> unreferenced = imageBlobRepository.findUnreferencedForUpdate(PageRequest.of(0, purgeBatchSize));
+                imageBlobRepository.deleteAllInBatch(unreferenced);
+                return unreferenced;
+            });
+            if (blobs == null || blobs.isEmpty()) {
+                return;
+            }
+
+            int orphaned = 0;
+            for (ImageBlob blob : blobs) {
+                try {
+                    imageStorage.delete(blob.getBlobKey());
+                    for (Variant variant : Variant.values()) {
+                        imageStorage.delete(ImageVariantGenerator.variantKey(blob.getBlobKey(), variant));
+                    }
+                } catch (Exception e) {
+                    orphaned++;
+                    log.warn("[IMAGE] Failed to delete image blob {} from storage, left as orphan: {}",
+                            blob.getBlobKey(), e.getMessage());
+                }
+            }
+            log.info("[IMAGE] Purged {} unreferenced image blobs ({} orphaned in storage)", blobs.size(), orphaned);
+        } finally {
+            schedulerLeaseService.release(PURGE_LEASE_NAME);
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.entity.ImageRef;
+import com.company.ticketservice.entity.Ticket;
+import com.company.ticketservice.repository.TicketRepository;
+import com.company.ticketservice.service.ImageVariantGenerator.Variant;
+import com.company.ticketservice.storage.ImageStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 티켓 이미지 비동기 업로드
+ * - 요청 스레드: 업로드 파일을 staging 디렉터리로 옮기고 "pending:" 참조로 티켓 저장 (저장소 업로드는 기다리지 않음)
+ * - 커밋 후 imageUploadExecutor에서 내용 해시 계산 → ImageBlobStore 참조 추가 → 처음 보는 내용만 ImageStorage로 업로드
+ * - 이어서 imageProcessingExecutor에서 썸네일/웹 이미지 생성 후 업로드 (실패해도 원본은 사용, 이미 있으면 생략)
+ * - 끝나면 조건부 UPDATE로 참조를 blob key로 교체 + variant key 기록
+ *   (업로드 실패하면 null, 그 사이 다른 이미지로 바뀌었으면 blob 참조 제거)
+ * - 두 스레드 풀 모두 큐가 가득 차면 제출한 스레드에서 실행 → 처리량을 넘는 업로드는 요청 스레드까지 밀려서 느려짐
+ * - 롤백되면 staging 파일 삭제 (stage 시점에 등록)
+ * - 재시작 시 staging에 남은 파일은 다시 업로드 (참조하는 티켓이 없으면 삭제)
+ * - staging 파일을 가진 인스턴스가 돌아오지 않으면 "pending:" 참조가 남음
+ *   → pending-ttl 동안 수정되지 않은 참조는 주기적으로 제거 (lease를 가진 인스턴스 한 곳에서만)
+ */
+@Slf4j
+@Service
+public class ImageUploadService {
+
+    // staging 파일명 = UUID + 확장자 (저장소 key는 업로드 시 내용 해시로 결정)
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f\\-]{36}(\\.[a-z0-9]{1,5})?");
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("\\.[a-z0-9]{1,5}");
+    private static final String SWEEP_LEASE_NAME = "image-pending-sweep";
+
+    public record StagedImage(String key, Path file, String contentType) {
+    }
+
+    private final ImageStorage imageStorage;
+    private final ImageBlobStore imageBlobStore;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final TicketRepository ticketRepository;
+    private final TicketDetailCache ticketDetailCache;
+    private final TicketSearchCache ticketSearchCache;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final ThreadPoolTaskExecutor executor;
+    private final ThreadPoolTaskExecutor processingExecutor;
+    private final Path stagingDir;
+    private final Path variantDir;
+    private final Duration pendingTtl;
+    private final int sweepBatchSize;
+    private final Duration sweepLeaseTtl;
+
+    public ImageUploadService(
+            ImageStorage imageStorage,
+            ImageBlobStore imageBlobStore,
+            ImageVariantGenerator imageVariantGenerator,
+            TicketRepository ticketRepository,
+            TicketDetailCache ticketDetailCache,
+            TicketSearchCache ticketSearchCache,
+            SchedulerLeaseService schedulerLeaseService,
+            @Qualifier("imageUploadExecutor") ThreadPoolTaskExecutor executor,
+            @Qualifier("imageProcessingExecutor") ThreadPoolTaskExecutor processingExecutor,
+            @Value("${ticket.image.upload.staging-dir:${java.io.tmpdir}/ticket-image-staging}") String stagingDir,
+            @Value("${ticket.image.upload.pending-ttl:1h}") Duration pendingTtl,
+            @Value("${ticket.image.upload.sweep-batch-size:100}") int sweepBatchSize,
+            @Value("${ticket.image.upload.sweep-lease-ttl:5m}") Duration sweepLeaseTtl
+    ) throws IOException {
+        this.imageStorage = imageStorage;
+        this.imageBlobStore = imageBlobStore;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.ticketRepository = ticketRepository;
+        this.ticketDetailCache = ticketDetailCache;
+        this.ticketSearchCache = ticketSearchCache;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.executor = executor;
+        this.processingExecutor = processingExecutor;
+        this.stagingDir = Path.of(stagingDir).toAbsolutePath().normalize();
+        this.variantDir = this.stagingDir.resolve("variants");
+        Files.createDirectories(this.variantDir);
+        this.pendingTtl = pendingTtl;
+        this.sweepBatchSize = sweepBatchSize;
+        this.sweepLeaseTtl = sweepLeaseTtl;
+    }
+
+    /**
+     * 업로드 파일을 staging 디렉터리로 이동 (요청 스레드)
+     * - transferTo(File)은 Part.write → Tomcat 임시 파일과 같은 파일시스템이면 rename만 함
+     *   (transferTo(Path)는 스트림 복사라 사용하지 않음)
+     * - 트랜잭션 안이면 롤백 시 staging 파일 삭제
+     * @return 빈 파일이면 null
+     */
+    public StagedImage stage(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            return null;
+        }
+        String key = UUID.randomUUID() + extensionOf(file.getOriginalFilename());
+        Path staged = stagingDir.resolve(key);
+        try {
+            file.transferTo(staged.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 파일 저장 실패", e);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        discard(staged);
+                    }
+                }
+            });
+        }
+        return new StagedImage(key, staged, file.getContentType());
+    }
+
+    /**
+     * 커밋 후 업로드 시작
+     * - 트랜잭션 밖이면 바로 시작
+     */
+    public void uploadAfterCommit(Long ticketId, StagedImage... images) {
+        List<StagedImage> staged = Arrays.stream(images).filter(Objects::nonNull).toList();
+        if (staged.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> staged.forEach(image -> submit(ticketId, image)));
+    }
+
+    /**
+     * 이전 실행에서 끝내지 못한 업로드 재개 (생성 중이던 variant 파일은 삭제)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingUploads() {
+        try (Stream<Path> files = Files.list(variantDir)) {
+            files.forEach(this::discard);
+        } catch (IOException e) {
+            log.warn("[IMAGE] Failed to clean variant directory {}: {}", variantDir, e.getMessage());
+        }
+        try (Stream<Path> files = Files.list(stagingDir)) {
+            files.filter(file -> KEY_PATTERN.matcher(file.getFileName().toString()).matches())
+                    .forEach(this::resume);
+        } catch (IOException e) {
+            log.warn("[IMAGE] Failed to scan staging directory {}: {}", stagingDir, e.getMessage());
+        }
+    }
+
+    private void resume(Path file) {
+        String key = file.getFileName().toString();
+        List<Long> ticketIds = ticketRepository.findIdsByImageRef(ImageRef.pending(key));
+        if (ticketIds.isEmpty()) {
+            discard(file);
+            return;
+        }
+        String contentType = null;
+        try {
+            contentType = Files.probeContentType(file);
+        } catch (IOException ignored) {
+            // content type 없이 업로드
+        }
+        log.info("[IMAGE] Resuming upload - ticketId: {}, key: {}", ticketIds.get(0), key);
+        submit(ticketIds.get(0), new StagedImage(key, file, contentType));
+    }
+
+    /**
+     * 끝나지 않은 업로드 참조 정리
+     * - pending-ttl 넘게 수정되지 않은 티켓의 "pending:" 참조를 null로 (업로드 실패와 같은 처리)
+     * - 최근 pending-ttl 구간만 조회 → 한 참조는 ttl ~ 2*ttl 사이에 여러 번 조회 대상이 됨 (주기가 ttl보다 짧아야 함)
+     * - 그 뒤 업로드가 끝나도 조건부 UPDATE가 0건이라 blob 참조만 반납됨
+     */
+    @Scheduled(fixedDelayString = "${ticket.image.upload.sweep-interval:600000}")
+    public void sweepStalePending() {
+        if (!schedulerLeaseService.tryAcquire(SWEEP_LEASE_NAME, sweepLeaseTtl)) {
+            return;
+        }
+        try {
+            LocalDateTime before = LocalDateTime.now().minus(pendingTtl);
+            List<Ticket> tickets = ticketRepository.findStalePendingImages(
+                    before.minus(pendingTtl), before, PageRequest.of(0, sweepBatchSize));
+            int cleared = 0;
+            for (Ticket ticket : tickets) {
+                for (String ref : new String[]{ticket.getImage1(), ticket.getImage2()}) {
+                    if (ImageRef.isPending(ref) && clearPending(ticket.getTicketId(), ref)) {
+                        cleared++;
+                    }
+                }
+            }
+            if (cleared > 0) {
+                log.warn("[IMAGE] Cleared {} stale pending image references", cleared);
+            }
+        } catch (Exception e) {
+            log.error("[IMAGE] Failed to sweep stale pending images: {}", e.getMessage());
+        } finally {
+            schedulerLeaseService.release(SWEEP_LEASE_NAME);
+        }
+    }
+
+    private boolean clearPending(Long ticketId, String pendingRef) {
+        if (ticketRepository.clearImageRef(ticketId, pendingRef) == 0) {
+            return false;
+        }
+        invalidateCaches(ticketId);
+        // 이 인스턴스가 staging 파일을 가지고 있으면 함께 삭제
+        String key = ImageRef.pendingKey(pendingRef);
+        if (KEY_PATTERN.matcher(key).matches()) {
+            discard(stagingDir.resolve(key));
+        }
+        return true;
+    }
+
+    private void submit(Long ticketId, StagedImage image) {
+        executor.execute(() -> upload(ticketId, image));
+    }
+
+    /**
+     * 내용 해시로 blob 참조 후 저장소 업로드
+     * - 같은 내용이 이미 저장돼 있으면 업로드 생략, 축소본까지 있으면 생성도 생략
+     */
+    private void upload(Long ticketId, StagedImage image) {
+        ImageBlobStore.Blob blob = null;
+        try {
+            String contentHash = ImageBlobStore.contentHash(image.file());
+            blob = imageBlobStore.acquire(contentHash, ImageBlobStore.blobKey(contentHash, extensionOf(image.key())));
+            if (blob.stored()) {
+                log.debug("[IMAGE] Duplicate image, upload skipped - ticketId: {}, key: {}", ticketId, blob.key());
+            } else {
+                imageStorage.store(blob.key(), image.file(), image.contentType());
+                imageBlobStore.markStored(contentHash, null, null);
+            }
+        } catch (Exception e) {
+            log.error("[IMAGE] Upload failed - ticketId: {}, key: {}: {}", ticketId, image.key(), e.getMessage());
+            fail(ticketId, image, blob);
+            return;
+        }
+        if (blob.hasVariants()) {
+            complete(ticketId, image, blob, blob.thumbnailKey(), blob.webKey());
+            return;
+        }
+        ImageBlobStore.Blob stored = blob;
+        processingExecutor.execute(() -> process(ticketId, image, stored));
+    }
+
+    /**
+     * 썸네일/웹 이미지 생성 + 업로드
+     * - 실패하면 variant 없이 원본만 사용
+     */
+    private void process(Long ticketId, StagedImage image, ImageBlobStore.Blob blob) {
+        Map<Variant, String> variantKeys = new EnumMap<>(Variant.class);
+        try {
+            for (ImageVariantGenerator.Generated generated : imageVariantGenerator.generate(image.file(), variantDir)) {
+                try {
+                    String variantKey = ImageVariantGenerator.variantKey(blob.key(), generated.variant());
+                    imageStorage.store(variantKey, generated.file(), "image/jpeg");
+                    variantKeys.put(generated.variant(), variantKey);
+                } finally {
+                    discard(generated.file());
+                }
+            }
+            if (!variantKeys.isEmpty()) {
+                imageBlobStore.markStored(blob.contentHash(),
+                        variantKeys.get(Variant.THUMBNAIL), variantKeys.get(Variant.WEB));
+            }
+        } catch (Exception e) {
+            log.warn("[IMAGE] Variant generation failed - ticketId: {}, key: {}: {}", ticketId, blob.key(), e.getMessage());
+        }
+        complete(ticketId, image, blob, variantKeys.get(Variant.THUMBNAIL), variantKeys.get(Variant.WEB));
+    }
+
+    private void complete(Long ticketId, StagedImage image, ImageBlobStore.Blob blob, String thumbnailKey, String webKey) {
+        String pendingRef = ImageRef.pending(image.key());
+        try {
+            // pendingRef는 업로드마다 고유하므로 두 칸 중 많아야 한 칸만 일치
+            int updated = ticketRepository.resolveImage1Ref(ticketId, pendingRef, blob.key(), thumbnailKey, webKey)
+                    + ticketRepository.resolveImage2Ref(ticketId, pendingRef, blob.key(), thumbnailKey, webKey);
+            if (updated > 0) {
+                invalidateCaches(ticketId);
+            } else {
+                // 업로드 중에 다른 이미지로 교체됐거나 티켓이 삭제됨
+                imageBlobStore.release(blob.key());
+            }
+            discard(image.file());
+        } catch (Exception e) {
+            // staging 파일은 남겨서 재시작 시 다시 처리
+            log.error("[IMAGE] Failed to update image reference - ticketId: {}, key: {}: {}",
+                    ticketId, image.key(), e.getMessage());
+        }
+    }
+
+    private void fail(Long ticketId, StagedImage image, ImageBlobStore.Blob blob) {
+        try {
+            if (ticketRepository.clearImageRef(ticketId, ImageRef.pending(image.key())) > 0) {
+                invalidateCaches(ticketId);
+            }
+            if (blob != null) {
+                imageBlobStore.release(blob.key());
+            }
+            discard(image.file());
+        } catch (Exception e) {
+            log.error("[IMAGE] Failed to clear image reference - ticketId: {}, key: {}: {}",
+                    ticketId, image.key(), e.getMessage());
+        }
+    }
+
+    private void invalidateCaches(Long ticketId) {
+        ticketDetailCache.invalidate(ticketId);
+        ticketRepository.findById(ticketId).ifPresent(ticket ->
+                ticketSearchCache.invalidate(ticket.getCategoryId(), ticket.getTicketStatus()));
+    }
+
+    private void discard(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[IMAGE] Failed to delete staged file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /** 원본 파일명에서 확장자만 사용 (경로 문자 등은 key에 넣지 않음) */
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        if (dot < 0) {
+            return "";
+        }
+        String extension = originalFilename.substring(dot).toLowerCase(Locale.ROOT);
+        return EXTENSION_PATTERN.matcher(extension).matches() ? extension : "";
+    }
+}
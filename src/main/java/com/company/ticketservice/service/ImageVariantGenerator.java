@@ -0,0 +1,154 @@
+package com.company.ticketservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 티켓 이미지 축소본 생성 (목록용 썸네일 + 상세용 웹 이미지, JPEG)
+ * - 원본 해상도 그대로 디코딩하지 않고 subsampling으로 웹 크기 이상(2배 미만)으로만 읽음 → 디코딩 시간/힙 사용량 감소
+ * - 웹 이미지에서 썸네일을 다시 축소 (원본은 한 번만 디코딩)
+ * - 투명 배경은 흰색으로 채움 (JPEG은 알파 없음)
+ * - 이미지가 아니거나 픽셀 수가 max-pixels를 넘으면 생성하지 않음 (원본만 사용)
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    public enum Variant {
+        THUMBNAIL("thumb"),
+        WEB("web");
+
+        private final String prefix;
+
+        Variant(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    public record Generated(Variant variant, Path file) {
+    }
+
+    private final int thumbnailSize;
+    private final int webSize;
+    private final float quality;
+    private final long maxPixels;
+
+    public ImageVariantGenerator(
+            @Value("${ticket.image.variants.thumbnail-size:320}") int thumbnailSize,
+            @Value("${ticket.image.variants.web-size:1280}") int webSize,
+            @Value("${ticket.image.variants.quality:0.8}") float quality,
+            @Value("${ticket.image.variants.max-pixels:100000000}") long maxPixels
+    ) {
+        this.thumbnailSize = thumbnailSize;
+        this.webSize = webSize;
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+    }
+
+    /** 원본 key → variant key (예: 3f2a...e1-9c0d...4b.png → thumb/3f2a...e1-9c0d...4b.jpg) */
+    public static String variantKey(String key, Variant variant) {
+        int dot = key.lastIndexOf('.');
+        String base = dot > key.lastIndexOf('/') ? key.substring(0, dot) : key;
+        return variant.prefix + "/" + base + ".jpg";
+    }
+
+    /**
+     * source 이미지의 축소본을 workDir에 생성
+     * - 반환된 파일은 호출 측에서 삭제
+     * @return 생성할 수 없는 이미지면 빈 목록
+     */
+    public List<Generated> generate(Path source, Path workDir) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return List.of();
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("[IMAGE] Skipping variants for {}x{} image {}", width, height, source.getFileName());
+                    return List.of();
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / webSize);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                BufferedImage web = resize(decoded, webSize);
+                BufferedImage thumbnail = resize(web, thumbnailSize);
+                Generated webFile = write(Variant.WEB, web, workDir);
+                try {
+                    return List.of(write(Variant.THUMBNAIL, thumbnail, workDir), webFile);
+                } catch (IOException | RuntimeException e) {
+                    Files.deleteIfExists(webFile.file());
+                    throw e;
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** 긴 변이 maxSize 이하가 되도록 축소 (작은 이미지는 확대하지 않음), RGB로 변환 */
+    private static BufferedImage resize(BufferedImage image, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private Generated write(Variant variant, BufferedImage image, Path workDir) throws IOException {
+        Path file = Files.createTempFile(workDir, variant.prefix + "-", ".jpg");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(file.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        return new Generated(variant, file);
+    }
+}
@@ -0,0 +1,308 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.entity.OutboxEvent;
+import com.company.ticketservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import software.amazon.awssdk.services.sns.model.PublishBatchResultEntry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 이벤트를 SNS로 발행하는 relay
+ * - PublishBatch로 최대 10건씩 발행
+ * - aggregate(티켓)별 순서 보장: 한 배치에는 aggregate당 1건만 담고, 실패/재시도 대기 중인 aggregate의 뒤 이벤트는 보내지 않음
+ * - 실패한 이벤트는 지수 backoff 후 재시도, maxAttempts번 실패하면 보류(failedAt) 처리 후 같은 aggregate의 다음 이벤트 진행
+ * - 재시도 대기/보류 이벤트는 조회 단계에서 제외 → 실패가 쌓여도 다른 aggregate 발행이 막히지 않음
+ * - lease를 가진 인스턴스 한 곳에서만 실행
+ * - 발행 후 publishedAt 기록 전에 죽으면 다시 발행될 수 있음 (at-least-once, 소비 측에서 중복 처리)
+ * - SnsClient만 의존하므로 테스트에서는 publishBatch만 구현한 stub으로 대체 가능
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String LEASE_NAME = "ticket-outbox-relay";
+    private static final int MAX_BATCH_ENTRIES = 10; // SNS PublishBatch 최대 건수
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final SnsClient snsClient;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    private final String topicArn;
+    private final int fetchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration leaseTtl;
+    private final Duration retention;
+    private final boolean fifo;
+
+    private final Timer batchTimer;
+    private final Timer publishLatency;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            SnsClient snsClient,
+            SchedulerLeaseService schedulerLeaseService,
+            MeterRegistry meterRegistry,
+            @Value("${aws.sns.topics.ticket-events}") String topicArn,
+            @Value("${ticket.outbox.fetch-size:200}") int fetchSize,
+            @Value("${ticket.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${ticket.outbox.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${ticket.outbox.max-backoff:5m}") Duration maxBackoff,
+            @Value("${ticket.outbox.lease-ttl:1m}") Duration leaseTtl,
+            @Value("${ticket.outbox.retention:7d}") Duration retention,
+            @Value("${ticket.outbox.fifo:false}") boolean fifo
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.snsClient = snsClient;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.topicArn = topicArn;
+        this.fetchSize = fetchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.leaseTtl = leaseTtl;
+        this.retention = retention;
+        this.fifo = fifo;
+        this.batchTimer = Timer.builder("ticket.outbox.batch")
+                .description("PublishBatch 1회 호출 소요 시간")
+                .register(meterRegistry);
+        this.publishLatency = Timer.builder("ticket.outbox.publish.latency")
+                .description("이벤트 기록부터 발행 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("ticket.outbox.published")
+                .description("발행 완료된 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("ticket.outbox.failed")
+                .description("발행 실패(재시도 예정) 이벤트 수")
+                .register(meterRegistry);
+        this.parkedCounter = Counter.builder("ticket.outbox.parked")
+                .description("재시도 한도를 넘어 보류된 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("ticket.outbox.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("가장 오래된 미발행 이벤트의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.outbox.poll-interval:1000}")
+    public void relay() {
+        if (!schedulerLeaseService.tryAcquire(LEASE_NAME, leaseTtl)) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.findPublishable(now, PageRequest.of(0, fetchSize));
+            updateLag(events);
+            if (events.isEmpty()) {
+                return;
+            }
+
+            Map<String, ArrayDeque<OutboxEvent>> queues = groupByAggregate(events, now);
+            while (!queues.isEmpty()) {
+                // aggregate마다 가장 앞 이벤트 하나씩만 한 배치에 담음
+                List<OutboxEvent> batch = new ArrayList<>(MAX_BATCH_ENTRIES);
+                for (ArrayDeque<OutboxEvent> queue : queues.values()) {
+                    batch.add(queue.peek());
+                    if (batch.size() == MAX_BATCH_ENTRIES) {
+                        break;
+                    }
+                }
+
+                List<Long> failedIds = publishBatch(batch);
+
+                Iterator<Map.Entry<String, ArrayDeque<OutboxEvent>>> iterator = queues.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    ArrayDeque<OutboxEvent> queue = iterator.next().getValue();
+                    OutboxEvent head = queue.peek();
+                    if (!batch.contains(head)) {
+                        continue;
+                    }
+                    // 실패한 aggregate는 이번 실행에서 더 보내지 않음 (순서 보장)
+                    if (failedIds.contains(head.getOutboxEventId())) {
+                        iterator.remove();
+                        continue;
+                    }
+                    queue.poll();
+                    if (queue.isEmpty()) {
+                        iterator.remove();
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("[OUTBOX] Relay failed: {}", e.getMessage(), e);
+        } finally {
+            schedulerLeaseService.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * 발행 완료된 이벤트 정리 (기본 매일 04시, retention 이전 것만)
+     */
+    @Scheduled(cron = "${ticket.outbox.purge-cron:0 0 4 * * *}")
+    public void purgePublished() {
+        int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("[OUTBOX] Purged {} published events", deleted);
+        }
+    }
+
+    /**
+     * aggregate별 이벤트 큐 (id 순서 유지)
+     * - 재시도 대기 중인 이벤트를 만나면 그 aggregate의 이후 이벤트는 이번 실행에서 제외 (조회 조건과 같은 기준, 방어용)
+     */
+    static Map<String, ArrayDeque<OutboxEvent>> groupByAggregate(List<OutboxEvent> events, LocalDateTime now) {
+        Map<String, ArrayDeque<OutboxEvent>> queues = new LinkedHashMap<>();
+        Set<String> blocked = new HashSet<>();
+
+        for (OutboxEvent event : events) {
+            String key = event.getAggregateType() + ":" + event.getAggregateId();
+            if (blocked.contains(key)) {
+                continue;
+            }
+            if (event.getNextAttemptAt().isAfter(now)) {
+                blocked.add(key);
+                continue;
+            }
+            queues.computeIfAbsent(key, k -> new ArrayDeque<>()).add(event);
+        }
+        return queues;
+    }
+
+    /**
+     * PublishBatch 1회 호출 후 결과 기록
+     * @return 실패한 outboxEventId 목록
+     */
+    private List<Long> publishBatch(List<OutboxEvent> batch) {
+        List<PublishBatchRequestEntry> entries = batch.stream()
+                .map(this::toEntry)
+                .toList();
+
+        List<Long> succeededIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        Map<Long, String> errors = new LinkedHashMap<>();
+
+        try {
+            PublishBatchResponse response = batchTimer.record(() -> snsClient.publishBatch(PublishBatchRequest.builder()
+                    .topicArn(topicArn)
+                    .publishBatchRequestEntries(entries)
+                    .build()));
+
+            for (PublishBatchResultEntry entry : response.successful()) {
+                succeededIds.add(Long.valueOf(entry.id()));
+            }
+            for (BatchResultErrorEntry entry : response.failed()) {
+                Long id = Long.valueOf(entry.id());
+                failedIds.add(id);
+                errors.put(id, entry.code() + ": " + entry.message());
+            }
+        } catch (Exception e) {
+            // 호출 자체가 실패하면 배치 전체 재시도
+            log.warn("[OUTBOX] PublishBatch failed: {}", e.getMessage());
+            batch.forEach(event -> {
+                failedIds.add(event.getOutboxEventId());
+                errors.put(event.getOutboxEventId(), e.getMessage());
+            });
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!succeededIds.isEmpty()) {
+            outboxEventRepository.markPublished(succeededIds, now);
+            publishedCounter.increment(succeededIds.size());
+        }
+
+        for (OutboxEvent event : batch) {
+            if (succeededIds.contains(event.getOutboxEventId())) {
+                publishLatency.record(Duration.between(event.getCreatedAt(), now).toMillis(), TimeUnit.MILLISECONDS);
+            } else if (!failedIds.contains(event.getOutboxEventId())) {
+                // 응답에 없는 항목도 실패로 간주
+                failedIds.add(event.getOutboxEventId());
+                errors.put(event.getOutboxEventId(), "missing from PublishBatch response");
+            }
+        }
+
+        for (OutboxEvent event : batch) {
+            if (failedIds.contains(event.getOutboxEventId())) {
+                markFailed(event, errors.get(event.getOutboxEventId()), now);
+            }
+        }
+        return failedIds;
+    }
+
+    private PublishBatchRequestEntry toEntry(OutboxEvent event) {
+        PublishBatchRequestEntry.Builder builder = PublishBatchRequestEntry.builder()
+                .id(String.valueOf(event.getOutboxEventId()))
+                .message(event.getPayload());
+        if (fifo) {
+            // FIFO 토픽이면 SNS에서도 aggregate 단위 순서 + 중복 제거
+            builder.messageGroupId(event.getAggregateType() + "-" + event.getAggregateId())
+                    .messageDeduplicationId(String.valueOf(event.getOutboxEventId()));
+        }
+        return builder.build();
+    }
+
+    private void markFailed(OutboxEvent event, String error, LocalDateTime now) {
+        String message = error == null ? "unknown" : error;
+        if (message.length() > MAX_ERROR_LENGTH) {
+            message = message.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        if (event.getAttempts() + 1 >= maxAttempts) {
+            parkedCounter.increment();
+            outboxEventRepository.markParked(event.getOutboxEventId(), now, message);
+            log.error("[OUTBOX] Event {} ({}) parked after {} attempts: {}",
+                    event.getOutboxEventId(), event.getEventType(), event.getAttempts() + 1, message);
+            return;
+        }
+
+        failedCounter.increment();
+        Duration backoff = backoff(event.getAttempts());
+        outboxEventRepository.markFailed(event.getOutboxEventId(), now.plus(backoff), message);
+        log.warn("[OUTBOX] Event {} ({}) failed, attempt {}, retry in {}s: {}",
+                event.getOutboxEventId(), event.getEventType(), event.getAttempts() + 1, backoff.toSeconds(), message);
+    }
+
+    /** initialBackoff * 2^attempts (최대 maxBackoff) */
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private void updateLag(List<OutboxEvent> events) {
+        // id 순서 = 기록 순서이므로 첫 이벤트가 가장 오래된 미발행 이벤트
+        lagMillis.set(events.isEmpty()
+                ? 0
+                : Math.max(0, Duration.between(events.get(0).getCreatedAt(), LocalDateTime.now()).toMillis()));
+    }
+}
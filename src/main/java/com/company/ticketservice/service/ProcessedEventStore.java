@@ -0,0 +1,149 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.repository.ProcessedEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 수신 이벤트 중복 처리 방지
+ * - processed_event 테이블이 기준 (상태 변경과 같은 트랜잭션에서 INSERT IGNORE)
+ * - 앞단 Bloom filter: "없음"이면 DB 조회 없이 새 이벤트로 판단, "있을 수도 있음"만 배치당 한 번의 IN 쿼리로 확인
+ * - 필터는 ttl마다 교체(현재 + 직전 2개 유지)해서 메모리 상한 유지, 테이블도 ttl 지나면 삭제
+ * - 재시작 시 ttl 이내 처리 기록으로 필터를 다시 채움 (별도 스레드) → 재전송 폭주에도 새 이벤트만 트랜잭션까지 감
+ */
+@Slf4j
+@Component
+public class ProcessedEventStore {
+
+    private final ProcessedEventRepository processedEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile long rotatedAt = System.currentTimeMillis();
+    // 초기 적재 전에는 Bloom 음성을 믿을 수 없으므로 항상 DB 확인
+    private volatile boolean ready = false;
+
+    public ProcessedEventStore(
+            ProcessedEventRepository processedEventRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${ticket.processed-event.ttl:7d}") Duration ttl,
+            @Value("${ticket.processed-event.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${ticket.processed-event.fpp:0.01}") double fpp
+    ) {
+        this.processedEventRepository = processedEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.ttl = ttl;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.current = new BloomFilter(expectedInsertions, fpp);
+        this.previous = new BloomFilter(expectedInsertions, fpp);
+    }
+
+    /**
+     * 애플리케이션 시작 후 ttl 이내 처리 기록으로 필터 채우기
+     * - 처리 기록 수에 비례해 오래 걸리므로 별도 스레드에서 진행 (시작을 막지 않음)
+     * - 끝나기 전(실패 포함)에는 Bloom 결과를 쓰지 않고 항상 DB 확인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Thread loader = new Thread(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> load());
+            } catch (RuntimeException e) {
+                log.error("[DEDUP] Failed to load processed event ids, checking every event in database", e);
+            }
+        }, "processed-event-warm-up");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * 처리 기록 스트리밍 조회 후 필터에 추가 - 읽기 전용 트랜잭션 안에서 호출
+     * - 적재 중 커밋된 이벤트는 markProcessed가 따로 추가, 그 사이 필터가 교체돼도 직전 필터로 조회됨
+     */
+    void load() {
+        int loaded = 0;
+        try (Stream<String> eventIds = processedEventRepository.streamEventIdsProcessedSince(LocalDateTime.now().minus(ttl))) {
+            Iterator<String> iterator = eventIds.iterator();
+            while (iterator.hasNext()) {
+                current.put(iterator.next());
+                loaded++;
+            }
+        }
+        ready = true;
+        log.info("[DEDUP] Loaded {} processed event ids", loaded);
+    }
+
+    /**
+     * 이미 처리된 eventId 목록
+     * - Bloom 양성인 것만 DB에서 확인
+     */
+    public Set<String> findProcessed(Collection<String> eventIds) {
+        List<String> candidates = eventIds.stream()
+                .filter(Objects::nonNull)
+                .filter(eventId -> !ready || mightContain(eventId))
+                .distinct()
+                .toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(processedEventRepository.findExistingIds(candidates));
+    }
+
+    /**
+     * 처리 기록 (호출한 트랜잭션 안에서)
+     * @return false면 이미 처리된 이벤트
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean markProcessed(String eventId, String eventType) {
+        boolean inserted = processedEventRepository.insert(eventId, eventType, LocalDateTime.now()) > 0;
+        // 커밋된 경우에만 필터에 추가
+        AfterCommit.run(() -> current.put(eventId));
+        return inserted;
+    }
+
+    /**
+     * 오래된 처리 기록 삭제 + ttl마다 필터 교체
+     */
+    @Scheduled(fixedDelayString = "${ticket.processed-event.prune-interval:3600000}")
+    public void prune() {
+        long now = System.currentTimeMillis();
+        if (now - rotatedAt >= ttl.toMillis()) {
+            previous = current;
+            current = new BloomFilter(expectedInsertions, fpp);
+            rotatedAt = now;
+        }
+
+        int deleted = processedEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(ttl));
+        if (deleted > 0) {
+            log.info("[DEDUP] Pruned {} processed event records", deleted);
+        }
+    }
+
+    private boolean mightContain(String eventId) {
+        return current.mightContain(eventId) || previous.mightContain(eventId);
+    }
+}
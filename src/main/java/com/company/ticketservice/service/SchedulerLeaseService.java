@@ -0,0 +1,53 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.repository.SchedulerLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DB 기반 스케줄 작업 lease
+ * - 여러 replica에서 같은 @Scheduled 작업이 동시에 돌지 않도록 조건부 UPDATE로 획득
+ * - 인스턴스가 죽어도 ttl이 지나면 다른 인스턴스가 가져감
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final String instanceId;
+
+    public SchedulerLeaseService(SchedulerLeaseRepository schedulerLeaseRepository) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        String hostname = System.getenv("HOSTNAME");
+        this.instanceId = (hostname != null ? hostname : "local") + ":" + UUID.randomUUID();
+    }
+
+    public boolean tryAcquire(String leaseName, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(ttl);
+
+        if (schedulerLeaseRepository.tryAcquire(leaseName, instanceId, now, until) > 0) {
+            return true;
+        }
+        try {
+            return schedulerLeaseRepository.insertLease(leaseName, instanceId, until) > 0;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 보유 중
+            return false;
+        }
+    }
+
+    public void release(String leaseName) {
+        try {
+            schedulerLeaseRepository.release(leaseName, instanceId, LocalDateTime.now());
+        } catch (Exception e) {
+            // 해제 실패 시 ttl 만료 후 자연스럽게 풀림
+            log.warn("[LEASE] Failed to release lease {}: {}", leaseName, e.getMessage());
+        }
+    }
+}
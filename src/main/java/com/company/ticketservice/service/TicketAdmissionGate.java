@@ -0,0 +1,58 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.exception.ConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 티켓 상태 변경 요청 중복 입장 제한
+ * - (ticketId, userId) 단위로 처리 중인 요청이 있으면 같은 사용자의 중복 요청(연타, 재전송)은 DB까지 가지 않고 409
+ * - 요청이 끝나면 결과(성공/실패)와 관계없이 바로 해제 → 티켓 상태는 기억하지 않음
+ * - 상태 전이 가능 여부 판단은 항상 DB의 조건부 UPDATE(compareAndSetStatus) 결과를 따름
+ * - 다른 사용자의 요청과는 서로 막지 않음 (소유자 요청이 권한 없는 요청 때문에 거절되지 않도록)
+ */
+@Component
+public class TicketAdmissionGate {
+
+    private record Key(Long ticketId, Long userId) {
+    }
+
+    private final Set<Key> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Counter admittedCounter;
+    private final Counter rejectedInFlightCounter;
+
+    public TicketAdmissionGate(MeterRegistry meterRegistry) {
+        this.admittedCounter = Counter.builder("ticket.admission")
+                .description("상태 변경 요청 입장 결과")
+                .tag("result", "admitted")
+                .register(meterRegistry);
+        this.rejectedInFlightCounter = Counter.builder("ticket.admission")
+                .description("상태 변경 요청 입장 결과")
+                .tag("result", "rejected_in_flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 (ticketId, userId) 요청이 처리 중이 아니면 action 실행
+     */
+    public <T> T admit(Long ticketId, Long userId, Supplier<T> action) {
+        Key key = new Key(ticketId, userId);
+        if (!inFlight.add(key)) {
+            rejectedInFlightCounter.increment();
+            throw new ConflictException("같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        admittedCounter.increment();
+        try {
+            return action.get();
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.dto.TicketBulkCreateResponse;
+import com.company.ticketservice.dto.TicketBulkCreateResponse.CreatedTicket;
+import com.company.ticketservice.dto.TicketBulkCreateResponse.RowError;
+import com.company.ticketservice.dto.TicketBulkCreateRow;
+import com.company.ticketservice.dto.TicketCreateRequest;
+import com.company.ticketservice.entity.Ticket;
+import com.company.ticketservice.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 티켓 대량 등록 (판매자)
+ * - 요청 본문을 한 행씩 스트리밍으로 읽어 검증 (JSON 배열 / NDJSON / CSV) → 본문 전체를 메모리에 올리지 않음
+ * - 검증 통과한 행을 batch-size만큼 모아 TicketService.createTickets로 저장 (청크마다 트랜잭션, JDBC batch INSERT)
+ * - 행별 오류는 결과에 담고 다음 행 계속 처리, 저장에 실패한 청크(원인 무관)는 그 청크의 행만 실패 처리
+ * - 본문 형식이 깨진 경우(JSON 문법 오류 등)는 그 행에서 중단 (앞에서 저장한 청크는 유지)
+ */
+@Slf4j
+@Service
+public class TicketBulkCreateService {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    private final TicketService ticketService;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final int batchSize;
+    private final int maxRows;
+
+    public TicketBulkCreateService(
+            TicketService ticketService,
+            ObjectMapper objectMapper,
+            @Value("${ticket.bulk-create.batch-size:200}") int batchSize,
+            @Value("${ticket.bulk-create.max-rows:1000}") int maxRows
+    ) {
+        this.ticketService = ticketService;
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .build();
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * 본문을 끝까지(또는 중단 지점까지) 처리하고 항상 부분 결과를 반환
+     * - 앞 청크가 이미 커밋됐을 수 있으므로 이후 실패는 예외 대신 행 오류로 응답 (재시도 시 중복 등록 방지)
+     */
+    public TicketBulkCreateResponse createTickets(Long userId, InputStream body, MediaType contentType) {
+        MappingIterator<JsonNode> rows;
+        try {
+            rows = openRows(body, contentType);
+        } catch (IOException e) {
+            // 아직 저장한 행이 없음
+            throw new BadRequestException("요청 본문을 읽을 수 없습니다.");
+        }
+
+        Progress progress = new Progress(batchSize);
+        int row = 0;
+        try {
+            while (true) {
+                JsonNode node;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    node = rows.nextValue();
+                } catch (IOException | RuntimeException e) {
+                    progress.errors.add(new RowError(row + 1, "요청 본문 형식이 올바르지 않아 이 행부터 처리하지 못했습니다."));
+                    break;
+                }
+
+                row++;
+                if (row > maxRows) {
+                    progress.errors.add(new RowError(row, "한 번에 최대 " + maxRows + "건까지 등록할 수 있어 이 행부터 처리하지 않았습니다."));
+                    break;
+                }
+
+                try {
+                    TicketCreateRequest request = toCreateRequest(node);
+                    ticketService.validateCreateRequest(request);
+                    progress.add(row, request);
+                } catch (BadRequestException e) {
+                    progress.errors.add(new RowError(row, e.getMessage()));
+                }
+                if (progress.chunk.size() >= batchSize) {
+                    flush(userId, progress);
+                }
+            }
+            flush(userId, progress);
+        } finally {
+            closeQuietly(rows);
+        }
+
+        progress.errors.sort(Comparator.comparingInt(RowError::row));
+        return new TicketBulkCreateResponse(row, progress.created.size(), progress.created, progress.errors);
+    }
+
+    private static void closeQuietly(MappingIterator<JsonNode> rows) {
+        try {
+            rows.close();
+        } catch (IOException e) {
+            log.debug("[BULK] Failed to close request body: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * JSON 배열이면 원소 단위, NDJSON은 줄(루트 값) 단위, CSV는 헤더 기준 객체로 읽음
+     */
+    private MappingIterator<JsonNode> openRows(InputStream body, MediaType contentType) throws IOException {
+        if (contentType != null && TEXT_CSV.isCompatibleWith(contentType)) {
+            return csvMapper.readerFor(JsonNode.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(body);
+        }
+        return objectMapper.readerFor(JsonNode.class).readValues(body);
+    }
+
+    private TicketCreateRequest toCreateRequest(JsonNode node) {
+        if (!node.isObject()) {
+            throw new BadRequestException("각 행은 객체 형식이어야 합니다.");
+        }
+        // 빈 값은 입력하지 않은 것으로 처리 (CSV 빈 칸)
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            JsonNode value = fields.next().getValue();
+            if (value.isNull() || (value.isTextual() && value.asText().isBlank())) {
+                fields.remove();
+            }
+        }
+        try {
+            return objectMapper.treeToValue(node, TicketBulkCreateRow.class).toCreateRequest();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new BadRequestException(invalidValueMessage(e));
+        }
+    }
+
+    private static String invalidValueMessage(Exception e) {
+        if (e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            String field = mapping.getPath().get(mapping.getPath().size() - 1).getFieldName();
+            if (field != null) {
+                return field + " 값의 형식이 올바르지 않습니다.";
+            }
+        }
+        return "행의 값 형식이 올바르지 않습니다.";
+    }
+
+    private void flush(Long userId, Progress progress) {
+        if (progress.chunk.isEmpty()) {
+            return;
+        }
+        try {
+            List<Ticket> tickets = ticketService.createTickets(userId, progress.chunk);
+            for (int i = 0; i < tickets.size(); i++) {
+                progress.created.add(new CreatedTicket(progress.chunkRows.get(i), tickets.get(i).getTicketId()));
+            }
+        } catch (RuntimeException e) {
+            // 이 청크만 롤백됨 → 이 청크의 행만 실패로 응답하고 다음 청크 계속 처리
+            log.error("[BULK] Failed to insert {} tickets - userId: {}: {}", progress.chunk.size(), userId, e.getMessage(), e);
+            for (Integer row : progress.chunkRows) {
+                progress.errors.add(new RowError(row, "저장 중 오류가 발생했습니다. 다시 시도해주세요."));
+            }
+        }
+        progress.chunk.clear();
+        progress.chunkRows.clear();
+    }
+
+    /** 처리 중인 청크 + 누적 결과 */
+    private static final class Progress {
+        private final List<TicketCreateRequest> chunk;
+        private final List<Integer> chunkRows;
+        private final List<CreatedTicket> created = new ArrayList<>();
+        private final List<RowError> errors = new ArrayList<>();
+
+        private Progress(int batchSize) {
+            this.chunk = new ArrayList<>(batchSize);
+            this.chunkRows = new ArrayList<>(batchSize);
+        }
+
+        private void add(int row, TicketCreateRequest request) {
+            chunk.add(request);
+            chunkRows.add(row);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.company.ticketservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 검색 조건별 티켓 개수 캐시 (withTotal=estimated)
+ * - 처음 보는 조건만 동기로 count (같은 조건 동시 miss는 한 번만), 이후에는 캐시 값을 바로 반환
+ * - refreshAfter가 지난 값은 그대로 반환하면서 백그라운드에서 다시 count
+ * - 최대 개수를 넘으면 자주 쓰이지 않는 조건부터 제거 (Caffeine), 오래 조회되지 않은 조건도 제거
+ */
+@Slf4j
+@Component
+public class TicketCountCache {
+
+    private final Duration refreshAfter;
+    private final Cache<String, Entry> entries;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "ticket-count-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TicketCountCache(
+            @Value("${ticket.search.count-cache.refresh-after:30s}") Duration refreshAfter,
+            @Value("${ticket.search.count-cache.expire-after-access:10m}") Duration expireAfterAccess,
+            @Value("${ticket.search.count-cache.max-entries:1000}") int maxEntries
+    ) {
+        this.refreshAfter = refreshAfter;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    /**
+     * 조건에 해당하는 티켓 개수 (근사값)
+     * @param key     정규화된 검색 조건 (TicketSearchCondition.toCacheKey)
+     * @param counter 실제 count 쿼리
+     */
+    public long getEstimatedCount(String key, LongSupplier counter) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            // count 예외는 캐시하지 않고 그대로 전파
+            return entries.get(key, k -> new Entry(counter.getAsLong(), System.currentTimeMillis())).count;
+        }
+
+        if (System.currentTimeMillis() - entry.computedAt > refreshAfter.toMillis()
+                && entry.refreshing.compareAndSet(false, true)) {
+            scheduleRefresh(counter, entry);
+        }
+        return entry.count;
+    }
+
+    private void scheduleRefresh(LongSupplier counter, Entry entry) {
+        try {
+            refresher.execute(() -> {
+                try {
+                    entry.count = counter.getAsLong();
+                    entry.computedAt = System.currentTimeMillis();
+                } catch (Exception e) {
+                    log.warn("[COUNT-CACHE] Refresh failed: {}", e.getMessage());
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private static final class Entry {
+        private volatile long count;
+        private volatile long computedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private Entry(long count, long computedAt) {
+            this.count = count;
+            this.computedAt = computedAt;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.dto.TicketResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 티켓 상세 조회 read-through 캐시
+ * - ticketId → 직렬화된 TicketResponse (JSON bytes)
+ *   : 캐시된 객체를 호출 측에서 수정해도 캐시에 영향 없도록 조회 시마다 새 객체로 역직렬화
+ * - 최대 개수 + TTL 기반 제거, 다른 인스턴스의 변경은 TTL 내에 반영
+ * - hit/miss/eviction 지표는 /actuator/metrics/cache.* (cache=ticket.detail)
+ */
+@Component
+public class TicketDetailCache {
+
+    public static final String CACHE_NAME = "ticket.detail";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, byte[]> cache;
+
+    public TicketDetailCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ticket.cache.detail.max-size:10000}") long maxSize,
+            @Value("${ticket.cache.detail.ttl:60s}") Duration ttl
+    ) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 조회 후 저장
+     * - 같은 ticketId 동시 miss 시 loader는 한 번만 실행
+     * - loader 예외(NotFoundException 등)는 캐시하지 않고 그대로 전파
+     */
+    public TicketResponse get(Long ticketId, Function<Long, TicketResponse> loader) {
+        byte[] cached = cache.get(ticketId, id -> serialize(loader.apply(id)));
+        return deserialize(cached);
+    }
+
+    /**
+     * 단건 무효화
+     * - 트랜잭션 안이면 커밋 후에 무효화 (커밋 전 재조회로 옛 값이 다시 캐시되는 것 방지)
+     */
+    public void invalidate(Long ticketId) {
+        AfterCommit.run(() -> cache.invalidate(ticketId));
+    }
+
+    /** 여러 건 무효화 (만료 배치 등 대량 상태 변경 시) */
+    public void invalidateAll(Collection<Long> ticketIds) {
+        AfterCommit.run(() -> cache.invalidateAll(ticketIds));
+    }
+
+    private byte[] serialize(TicketResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException("티켓 캐시 직렬화 실패", e);
+        }
+    }
+
+    private TicketResponse deserialize(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, TicketResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("티켓 캐시 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.company.ticketservice.service;
+
+import com.company.sns.EventMessage;
+import com.company.ticketservice.entity.OutboxEvent;
+import com.company.ticketservice.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 티켓 이벤트 아웃박스 기록
+ * - 호출한 트랜잭션 안에서만 저장 (티켓 변경과 함께 커밋/롤백)
+ * - 실제 발행은 OutboxRelay 담당
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketEventOutbox {
+
+    static final String AGGREGATE_TYPE = "ticket";
+    private static final String SOURCE = "service-ticket";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String eventType, Long ticketId, Map<String, Object> data) {
+        outboxEventRepository.save(toOutboxEvent(eventType, ticketId, data, LocalDateTime.now()));
+    }
+
+    /**
+     * 여러 티켓의 같은 종류 이벤트를 한 번에 기록 (JDBC batch INSERT)
+     * - 발행은 append와 같이 OutboxRelay가 PublishBatch로 묶어서 처리
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(String eventType, Map<Long, Map<String, Object>> dataByTicketId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = new ArrayList<>(dataByTicketId.size());
+        dataByTicketId.forEach((ticketId, data) -> events.add(toOutboxEvent(eventType, ticketId, data, now)));
+        outboxEventRepository.insertAll(events);
+    }
+
+    private OutboxEvent toOutboxEvent(String eventType, Long ticketId, Map<String, Object> data, LocalDateTime now) {
+        EventMessage event = EventMessage.create(eventType, SOURCE, data);
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화에 실패했습니다: " + eventType, e);
+        }
+
+        return OutboxEvent.builder()
+                .aggregateType(AGGREGATE_TYPE)
+                .aggregateId(String.valueOf(ticketId))
+                .eventType(eventType)
+                .payload(payload)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+    }
+}
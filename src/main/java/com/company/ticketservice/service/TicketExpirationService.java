@@ -1,39 +1,186 @@
 package com.company.ticketservice.service;
 
 import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.repository.TicketOwnerRow;
 import com.company.ticketservice.repository.TicketRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TicketExpirationService {
 
+    private static final String LEASE_NAME = "ticket-expiration";
+
     private final TicketRepository ticketRepository;
+    private final TicketDetailCache ticketDetailCache;
+    private final TicketSearchCache ticketSearchCache;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final TicketEventOutbox ticketEventOutbox;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration leaseTtl;
+
+    private final Timer chunkTimer;
+    private final Counter expiredCounter;
+
+    public TicketExpirationService(
+            TicketRepository ticketRepository,
+            TicketDetailCache ticketDetailCache,
+            TicketSearchCache ticketSearchCache,
+            SchedulerLeaseService schedulerLeaseService,
+            TicketEventOutbox ticketEventOutbox,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${ticket.expiration.chunk-size:500}") int chunkSize,
+            @Value("${ticket.expiration.max-chunks-per-run:100}") int maxChunksPerRun,
+            @Value("${ticket.expiration.lease-ttl:5m}") Duration leaseTtl
+    ) {
+        this.ticketRepository = ticketRepository;
+        this.ticketDetailCache = ticketDetailCache;
+        this.ticketSearchCache = ticketSearchCache;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.ticketEventOutbox = ticketEventOutbox;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.leaseTtl = leaseTtl;
+        this.chunkTimer = Timer.builder("ticket.expiration.chunk")
+                .description("만료 처리 청크 1회 (조회 + 업데이트 + 커밋) 소요 시간")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("ticket.expiration.expired")
+                .description("만료 처리된 티켓 수")
+                .register(meterRegistry);
+    }
 
     /**
-     * 매 시 정각마다 실행
+     * 1분마다 실행 (기본값)
      * EXPIRED 상태 자동 업데이트
+     * - chunkSize 단위로 나눠서 청크마다 커밋 (긴 잠금/복제 지연 방지)
+     * - lease를 가진 인스턴스 한 곳에서만 실행
+     * - 평소에는 TicketExpirationWheel이 deadline 직후 만료시키고, 이 스케줄은 누락분 보정용
      */
-    @Transactional
-    @Scheduled(cron = "0 0 * * * *")
+    @Scheduled(fixedDelayString = "${ticket.expiration.interval:60000}")
     public void expireTickets() {
+        if (!schedulerLeaseService.tryAcquire(LEASE_NAME, leaseTtl)) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int total = 0;
+
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                List<TicketOwnerRow> expired = chunkTimer.record(() -> transactionTemplate.execute(status -> expireChunk(now)));
+                if (expired == null || expired.isEmpty()) {
+                    break;
+                }
+
+                afterChunkCommitted(expired);
+                total += expired.size();
+
+                if (expired.size() < chunkSize) {
+                    break;
+                }
+            }
+
+            if (total > 0) {
+                log.info("Expired tickets updated: {} at {}", total, now);
+            }
+        } finally {
+            schedulerLeaseService.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * 타이밍 휠에서 deadline이 지난 티켓 만료 처리
+     * - 전체 테이블을 조회하지 않고 전달받은 ID만 잠금 후 확인
+     * - 여러 인스턴스가 같은 티켓을 처리해도 행 잠금 + 상태 조건으로 한 번만 만료됨
+     */
+    public int expireDueTickets(Collection<Long> ticketIds) {
+        List<Long> ids = List.copyOf(ticketIds);
         LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunkIds = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            List<TicketOwnerRow> expired = chunkTimer.record(() -> transactionTemplate.execute(status -> expire(
+                    ticketRepository.findExpirationCandidatesByIds(chunkIds, TicketStatus.AVAILABLE, now)
+            )));
+            if (expired == null || expired.isEmpty()) {
+                continue;
+            }
 
-        int updated = ticketRepository.expireAvailableTickets(
+            afterChunkCommitted(expired);
+            total += expired.size();
+        }
+
+        if (total > 0) {
+            log.info("[EXPIRATION] Expired {} tickets on deadline", total);
+        }
+        return total;
+    }
+
+    /**
+     * 한 청크 만료 처리 (하나의 트랜잭션)
+     * - 대상 행을 잠그고 조회한 뒤 ID 목록으로 일괄 UPDATE
+     */
+    private List<TicketOwnerRow> expireChunk(LocalDateTime now) {
+        return expire(ticketRepository.findExpirationCandidates(
                 TicketStatus.AVAILABLE,
-                TicketStatus.EXPIRED,
-                now
-        );
+                now,
+                PageRequest.of(0, chunkSize)
+        ));
+    }
 
-        if (updated > 0) {
-            log.info("Expired tickets updated: {} at {}", updated, now);
+    private List<TicketOwnerRow> expire(List<TicketOwnerRow> candidates) {
+        if (candidates.isEmpty()) {
+            return candidates;
         }
+
+        List<Long> ticketIds = candidates.stream()
+                .map(TicketOwnerRow::ticketId)
+                .toList();
+        ticketRepository.expireTicketsByIds(ticketIds, TicketStatus.AVAILABLE, TicketStatus.EXPIRED);
+
+        // 상태 변경과 같은 트랜잭션에서 이벤트 기록
+        for (TicketOwnerRow ticket : candidates) {
+            ticketEventOutbox.append(
+                "ticket.status.changed",
+                ticket.ticketId(),
+                Map.of(
+                    "ticketId", ticket.ticketId(),
+                    "ownerId", ticket.ownerId(),
+                    "oldStatus", TicketStatus.AVAILABLE.name(),
+                    "newStatus", TicketStatus.EXPIRED.name()
+                )
+            );
+        }
+        return candidates;
+    }
+
+    /**
+     * 청크 커밋 후 처리: 캐시 무효화
+     */
+    private void afterChunkCommitted(List<TicketOwnerRow> expired) {
+        expiredCounter.increment(expired.size());
+
+        ticketDetailCache.invalidateAll(expired.stream().map(TicketOwnerRow::ticketId).toList());
+        ticketSearchCache.invalidateStatuses(TicketStatus.AVAILABLE, TicketStatus.EXPIRED);
     }
 }
@@ -0,0 +1,185 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.entity.Ticket;
+import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.repository.TicketDeadline;
+import com.company.ticketservice.repository.TicketRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * AVAILABLE 티켓의 eventDate 만료 타이머
+ * - 계층형 타이밍 휠에 deadline을 올려두고 1초마다 진행 → deadline 직후 수 초 안에 만료
+ * - 전체 티켓이 아니라 [현재, 현재 + window) 구간만 DB에서 적재, 절반쯤 지나면 다음 구간 적재
+ * - 생성/수정/상태 변경 시 TicketService에서 등록/취소
+ * - 취소는 deadlines 맵에서만 제거하고, 휠에 남은 타이머는 실행 시점에 무시 (lazy deletion)
+ * - 누락분(다른 인스턴스 변경, 재시작 등)은 TicketExpirationService.expireTickets가 보정
+ */
+@Slf4j
+@Component
+public class TicketExpirationWheel {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final TicketRepository ticketRepository;
+    private final TicketExpirationService ticketExpirationService;
+    private final long tickMs;
+    private final Duration window;
+
+    // ticketId -> 현재 유효한 deadline (epoch ms)
+    private final Map<Long, Long> deadlines = new ConcurrentHashMap<>();
+    private final HierarchicalTimingWheel wheel;
+    private final Queue<HierarchicalTimingWheel.Timer> overdue = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ticket-expiration-wheel");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이 시각 이전 deadline은 휠에 적재됨 (이후는 다음 구간 적재 시 조회)
+    private volatile long loadedUntil = Long.MIN_VALUE;
+
+    public TicketExpirationWheel(
+            TicketRepository ticketRepository,
+            TicketExpirationService ticketExpirationService,
+            @Value("${ticket.expiration.wheel.tick:1s}") Duration tick,
+            @Value("${ticket.expiration.wheel.window:1h}") Duration window
+    ) {
+        this.ticketRepository = ticketRepository;
+        this.ticketExpirationService = ticketExpirationService;
+        this.tickMs = tick.toMillis();
+        this.window = window;
+        this.wheel = new HierarchicalTimingWheel(tickMs, 60, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ticker.scheduleWithFixedDelay(this::tick, 0, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 티켓 상태/날짜에 맞춰 타이머 등록 또는 취소 (커밋 후)
+     */
+    public void track(Ticket ticket) {
+        Long ticketId = ticket.getTicketId();
+        LocalDateTime eventDate = ticket.getEventDate();
+        boolean available = ticket.getTicketStatus() == TicketStatus.AVAILABLE;
+
+        AfterCommit.run(() -> {
+            if (available && eventDate != null) {
+                schedule(ticketId, toEpochMillis(eventDate));
+            } else {
+                deadlines.remove(ticketId);
+            }
+        });
+    }
+
+    public void cancel(Long ticketId) {
+        AfterCommit.run(() -> deadlines.remove(ticketId));
+    }
+
+    private void schedule(Long ticketId, long deadlineMs) {
+        // 아직 적재하지 않은 구간은 해당 구간 적재 시 DB에서 가져옴
+        if (deadlineMs >= loadedUntil) {
+            deadlines.remove(ticketId);
+            return;
+        }
+        deadlines.put(ticketId, deadlineMs);
+
+        HierarchicalTimingWheel.Timer timer = new HierarchicalTimingWheel.Timer(ticketId, deadlineMs);
+        boolean added;
+        synchronized (wheel) {
+            added = wheel.add(timer);
+        }
+        if (!added) {
+            // 이미 지난 deadline은 다음 tick에서 처리
+            overdue.add(timer);
+        }
+    }
+
+    private void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            if (now + window.toMillis() / 2 >= loadedUntil) {
+                loadWindow(now);
+            }
+
+            List<Long> due = new ArrayList<>();
+            Consumer<HierarchicalTimingWheel.Timer> collect = timer -> {
+                // 취소/변경된 타이머는 맵의 deadline과 달라서 무시됨
+                if (deadlines.remove(timer.ticketId(), timer.deadlineMs())) {
+                    due.add(timer.ticketId());
+                }
+            };
+            HierarchicalTimingWheel.Timer timer;
+            while ((timer = overdue.poll()) != null) {
+                collect.accept(timer);
+            }
+            synchronized (wheel) {
+                wheel.advance(now, collect);
+            }
+
+            if (!due.isEmpty()) {
+                ticketExpirationService.expireDueTickets(due);
+            }
+        } catch (Exception e) {
+            // 예외로 스케줄이 멈추지 않도록 로그만 남김 (누락분은 주기 만료 처리에서 보정)
+            log.warn("[EXPIRATION-WHEEL] Tick failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다음 deadline 구간 적재
+     * - 첫 적재는 현재 시각부터 (이미 지난 티켓은 주기 만료 처리 담당)
+     */
+    private void loadWindow(long now) {
+        long from = loadedUntil == Long.MIN_VALUE ? now : loadedUntil;
+        long to = Math.max(from, now) + window.toMillis();
+
+        List<TicketDeadline> rows = ticketRepository.findDeadlines(
+                TicketStatus.AVAILABLE,
+                toLocalDateTime(from),
+                toLocalDateTime(to)
+        );
+
+        loadedUntil = to;
+        for (TicketDeadline row : rows) {
+            if (row.ticketId() != null && row.eventDate() != null) {
+                schedule(row.ticketId(), toEpochMillis(row.eventDate()));
+            }
+        }
+        log.debug("[EXPIRATION-WHEEL] Loaded {} deadlines until {}", rows.size(), toLocalDateTime(to));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+    }
+}
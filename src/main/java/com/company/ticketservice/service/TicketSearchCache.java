@@ -0,0 +1,138 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.dto.PageResponse;
+import com.company.ticketservice.dto.TicketSearchCondition;
+import com.company.ticketservice.dto.TicketSummaryResponse;
+import com.company.ticketservice.dto.TotalCountMode;
+import com.company.ticketservice.entity.TicketStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 티켓 목록 검색 결과 캐시
+ * - 키: 정규화된 검색 조건 + page + size + 실제 적용된 정렬 + 전체 개수 계산 방식
+ * - refreshAfter가 지난 키는 한 스레드만 다시 조회하고, 나머지 요청은 기존 값을 그대로 반환 (stampede 방지)
+ * - ttl이 지나면 완전히 제거
+ * - 티켓 변경 시 해당 카테고리/상태를 포함할 수 있는 키만 무효화
+ * - 캐시된 응답 객체는 공유되므로 읽기 전용으로만 사용
+ */
+@Slf4j
+@Component
+public class TicketSearchCache {
+
+    public static final String CACHE_NAME = "ticket.search";
+
+    private final Cache<Key, Entry> cache;
+    private final long refreshAfterMillis;
+
+    public TicketSearchCache(
+            MeterRegistry meterRegistry,
+            @Value("${ticket.cache.search.max-size:1000}") long maxSize,
+            @Value("${ticket.cache.search.refresh-after:5s}") Duration refreshAfter,
+            @Value("${ticket.cache.search.ttl:30s}") Duration ttl
+    ) {
+        this.refreshAfterMillis = refreshAfter.toMillis();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public PageResponse<TicketSummaryResponse> get(Key key, Supplier<PageResponse<TicketSummaryResponse>> loader) {
+        // 없는 키는 Caffeine이 키 단위로 한 번만 계산
+        Entry entry = cache.get(key, k -> new Entry(loader.get()));
+
+        if (entry.isStale(refreshAfterMillis) && entry.refreshing.compareAndSet(false, true)) {
+            try {
+                Entry fresh = new Entry(loader.get());
+                // 그 사이 무효화됐으면 다시 넣지 않음
+                cache.asMap().replace(key, entry, fresh);
+                return fresh.value;
+            } catch (RuntimeException e) {
+                log.warn("[SEARCH-CACHE] Refresh failed, serving stale result: {}", e.getMessage());
+                return entry.value;
+            } finally {
+                entry.refreshing.set(false);
+            }
+        }
+        return entry.value;
+    }
+
+    /**
+     * 티켓 변경 시 선택적 무효화 (커밋 후)
+     * - 카테고리 조건이 없거나 같은 카테고리인 키
+     * - 상태 조건이 없거나 변경 전/후 상태 중 하나인 키
+     */
+    public void invalidate(Long categoryId, TicketStatus... statuses) {
+        Set<TicketStatus> affected = statusSet(statuses);
+        AfterCommit.run(() -> cache.asMap().keySet().removeIf(key ->
+                (key.categoryId() == null || key.categoryId().equals(categoryId))
+                        && (key.ticketStatus() == null || affected.contains(key.ticketStatus()))
+        ));
+    }
+
+    /** 카테고리와 무관한 대량 상태 변경 (만료 배치 등) */
+    public void invalidateStatuses(TicketStatus... statuses) {
+        Set<TicketStatus> affected = statusSet(statuses);
+        AfterCommit.run(() -> cache.asMap().keySet().removeIf(key ->
+                key.ticketStatus() == null || affected.contains(key.ticketStatus())
+        ));
+    }
+
+    // 변경 전/후 상태가 같을 수 있음 (Set.of는 중복 시 예외)
+    private static Set<TicketStatus> statusSet(TicketStatus... statuses) {
+        Set<TicketStatus> set = EnumSet.noneOf(TicketStatus.class);
+        set.addAll(Arrays.asList(statuses));
+        return set;
+    }
+
+    public record Key(
+            String condition,
+            Long categoryId,
+            TicketStatus ticketStatus,
+            int page,
+            int size,
+            String sort,
+            TotalCountMode totalMode
+    ) {
+        public static Key of(TicketSearchCondition condition, int page, int size, String sort, TotalCountMode totalMode) {
+            return new Key(
+                    condition.toCacheKey(),
+                    condition.getCategoryId(),
+                    condition.getTicketStatus(),
+                    page,
+                    size,
+                    sort,
+                    totalMode
+            );
+        }
+    }
+
+    private static final class Entry {
+        private final PageResponse<TicketSummaryResponse> value;
+        private final long loadedAt = System.currentTimeMillis();
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private Entry(PageResponse<TicketSummaryResponse> value) {
+            this.value = value;
+        }
+
+        private boolean isStale(long refreshAfterMillis) {
+            return System.currentTimeMillis() - loadedAt > refreshAfterMillis;
+        }
+    }
+}
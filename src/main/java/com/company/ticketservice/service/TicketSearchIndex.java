@@ -0,0 +1,392 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.dto.TicketSearchCondition;
+import com.company.ticketservice.entity.Ticket;
+import com.company.ticketservice.entity.TicketDeletion;
+import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.repository.TicketDeletionRepository;
+import com.company.ticketservice.repository.TicketKeywordRow;
+import com.company.ticketservice.repository.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 공연명/공연장 키워드 검색용 in-process n-gram 역색인
+ * - LIKE '%키워드%'는 인덱스를 못 타서 매번 full scan → 색인으로 후보 ticketId를 먼저 찾음
+ * - 한글은 음절 단위 1-gram/2-gram으로 색인 (형태소 분석 없이 부분 검색 지원)
+ * - NFC 정규화로 자모 분리(NFD) 입력도 같은 키워드로 처리
+ * - 상태/판매자/카테고리/공연일 필터도 색인에 함께 보관 → 흔한 키워드도 posting list를 메모리에서 걸러서 반환
+ *   (값은 다음 동기화 전까지 DB와 다를 수 있으므로 DB 조회에서 같은 필터를 다시 적용)
+ * - 색인이 아직 준비되지 않았으면 Optional.empty() → 호출 측에서 LIKE 검색으로 대체
+ * - 티켓 생성/수정/삭제는 커밋 후 반영 (롤백된 변경이 색인에 남지 않도록)
+ * - 다른 인스턴스 변경: 생성/수정은 updated_at, 삭제는 ticket_deletion(tombstone) 테이블을 주기적으로 조회
+ */
+@Slf4j
+@Component
+public class TicketSearchIndex {
+
+    private static final char FIELD_SEPARATOR = '\n';
+
+    private final TicketRepository ticketRepository;
+    private final TicketDeletionRepository ticketDeletionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration deletionRetention;
+
+    private final Map<String, LongPostings> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready = false;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public TicketSearchIndex(
+            TicketRepository ticketRepository,
+            TicketDeletionRepository ticketDeletionRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${ticket.search.index.deletion-retention:1h}") Duration deletionRetention
+    ) {
+        this.ticketRepository = ticketRepository;
+        this.ticketDeletionRepository = ticketDeletionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.deletionRetention = deletionRetention;
+    }
+
+    /**
+     * 애플리케이션 시작 후 전체 티켓으로 색인 구축
+     * - 티켓 수에 비례해 오래 걸리므로 별도 스레드에서 진행 (시작을 막지 않음)
+     * - 구축 완료 전 검색은 LIKE 검색으로 대체됨
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Thread builder = new Thread(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> build());
+            } catch (RuntimeException e) {
+                log.error("[SEARCH-INDEX] Failed to build keyword index, falling back to LIKE search", e);
+            }
+        }, "ticket-search-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * 전체 티켓 스트리밍 조회 (fetch size 단위) 후 색인 - 읽기 전용 트랜잭션 안에서 호출
+     */
+    void build() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime syncPoint = LocalDateTime.now();
+        int loaded = 0;
+
+        try (Stream<TicketKeywordRow> rows = ticketRepository.streamKeywordRows()) {
+            Iterator<TicketKeywordRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                index(iterator.next());
+                loaded++;
+            }
+        }
+
+        lastSyncedAt = syncPoint;
+        ready = true;
+        log.info("[SEARCH-INDEX] Built keyword index: {} tickets, {} grams in {} ms",
+                loaded, postings.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 다른 인스턴스에서 생성/수정/삭제된 티켓 반영
+     * - 생성/수정: updated_at(인덱스 있음) 기준 조회
+     * - 삭제: 행이 남지 않으므로 ticket_deletion 기록 기준으로 제거
+     */
+    @Scheduled(fixedDelayString = "${ticket.search.index.sync-interval:30000}")
+    public void syncRecentChanges() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime syncPoint = LocalDateTime.now();
+        // DB/애플리케이션 시계 차이를 고려해 1분 겹쳐서 조회
+        List<TicketKeywordRow> rows = ticketRepository.findKeywordRowsModifiedSince(lastSyncedAt.minusMinutes(1));
+        rows.forEach(this::index);
+        ticketDeletionRepository.findTicketIdsDeletedSince(lastSyncedAt.minusMinutes(1)).forEach(this::unindex);
+        lastSyncedAt = syncPoint;
+    }
+
+    /** 오래된 삭제 기록 정리 (retention은 동기화 주기 + 겹침 구간보다 충분히 길게) */
+    @Scheduled(fixedDelayString = "${ticket.search.index.prune-interval:600000}")
+    public void pruneDeletions() {
+        int deleted = ticketDeletionRepository.deleteDeletedBefore(LocalDateTime.now().minus(deletionRetention));
+        if (deleted > 0) {
+            log.debug("[SEARCH-INDEX] Pruned {} deletion records", deleted);
+        }
+    }
+
+    /** 티켓 색인 (트랜잭션 안이면 커밋 후 반영) */
+    public void put(Ticket ticket) {
+        TicketKeywordRow row = new TicketKeywordRow(ticket.getTicketId(), ticket.getEventName(), ticket.getEventLocation(),
+                ticket.getTicketStatus(), ticket.getOwnerId(), ticket.getCategoryId(), ticket.getEventDate());
+        AfterCommit.run(() -> index(row));
+    }
+
+    /**
+     * 티켓 색인 제거 (호출한 트랜잭션 안에서)
+     * - 다른 인스턴스용 삭제 기록 + 커밋 후 이 인스턴스 색인에서 제거
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(Long ticketId) {
+        ticketDeletionRepository.save(TicketDeletion.builder()
+                .ticketId(ticketId)
+                .deletedAt(LocalDateTime.now())
+                .build());
+        AfterCommit.run(() -> unindex(ticketId));
+    }
+
+    void index(TicketKeywordRow row) {
+        if (row.ticketId() == null) {
+            return;
+        }
+        Document document = new Document(
+                normalize(row.eventName()) + FIELD_SEPARATOR + normalize(row.eventLocation()),
+                row.ticketStatus(), row.ownerId(), row.categoryId(), row.eventDate());
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(row.ticketId(), document);
+            if (previous != null && previous.text().equals(document.text())) {
+                return;
+            }
+            if (previous != null) {
+                for (String gram : grams(previous.text())) {
+                    LongPostings list = postings.get(gram);
+                    if (list != null && list.remove(row.ticketId()) && list.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+            for (String gram : grams(document.text())) {
+                postings.computeIfAbsent(gram, g -> new LongPostings()).add(row.ticketId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void unindex(Long ticketId) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(ticketId);
+            if (previous == null) {
+                return;
+            }
+            for (String gram : grams(previous.text())) {
+                LongPostings list = postings.get(gram);
+                if (list != null && list.remove(ticketId) && list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드가 공연명 또는 공연장에 포함된 ticketId 목록 (오름차순)
+     * - 색인 미구축 시 Optional.empty()
+     */
+    public Optional<List<Long>> findTicketIds(String keyword) {
+        TicketSearchCondition condition = new TicketSearchCondition();
+        condition.setEventName(keyword);
+        return findTicketIds(condition);
+    }
+
+    /**
+     * 검색 조건의 키워드(eventName)가 포함되고 나머지 필터도 만족하는 ticketId 목록 (오름차순)
+     * - 후보 수와 관계없이 posting list 교집합을 메모리에서 필터링 (LIKE 대체 없음)
+     * - 색인 미구축 / 키워드 없음이면 Optional.empty()
+     */
+    public Optional<List<Long>> findTicketIds(TicketSearchCondition condition) {
+        String query = normalize(condition.getEventName());
+        if (!ready || query.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<LongPostings> lists = new ArrayList<>();
+            for (String gram : queryGrams(query)) {
+                LongPostings list = postings.get(gram);
+                if (list == null) {
+                    return Optional.of(List.of());
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(LongPostings::size));
+
+            // 가장 짧은 posting부터 교집합
+            long[] candidates = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = lists.get(i).intersect(candidates);
+            }
+
+            // 2-gram 교집합은 순서를 보장하지 않으므로 실제 포함 여부 확인 + 필터 적용
+            List<Long> result = new ArrayList<>();
+            for (long ticketId : candidates) {
+                Document document = documents.get(ticketId);
+                if (document != null && document.text().contains(query) && document.matches(condition)) {
+                    result.add(ticketId);
+                }
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** NFC 정규화 + 소문자 + 연속 공백 정리 */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    /** 색인용 gram: 모든 1-gram + 2-gram (필드 경계를 넘는 gram 제외) */
+    private static Set<String> grams(String document) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < document.length(); i++) {
+            char c = document.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                continue;
+            }
+            grams.add(String.valueOf(c));
+            if (i + 1 < document.length() && document.charAt(i + 1) != FIELD_SEPARATOR) {
+                grams.add(document.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /** 검색용 gram: 한 글자면 1-gram, 그 외에는 2-gram */
+    private static Set<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /** 색인 문서: 정규화한 "공연명\n공연장" + 메모리 필터용 컬럼 */
+    private record Document(String text, TicketStatus status, Long ownerId, Long categoryId, LocalDateTime eventDate) {
+
+        /** TicketSpecification 필터와 같은 조건 (null 조건은 적용 안 함) */
+        boolean matches(TicketSearchCondition condition) {
+            return (condition.getTicketStatus() == null || condition.getTicketStatus() == status)
+                    && (condition.getOwnerId() == null || condition.getOwnerId().equals(ownerId))
+                    && (condition.getCategoryId() == null || condition.getCategoryId().equals(categoryId))
+                    && (condition.getStartDate() == null || (eventDate != null && !eventDate.isBefore(condition.getStartDate())))
+                    && (condition.getEndDate() == null || (eventDate != null && !eventDate.isAfter(condition.getEndDate())));
+        }
+    }
+
+    /**
+     * 정렬된 long 배열 기반 posting list (Long 박싱 없이 메모리 절약)
+     * - 새 티켓은 ID가 증가하므로 대부분 끝에 추가됨
+     */
+    private static final class LongPostings {
+        private long[] ids = new long[4];
+        private int size = 0;
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        long[] intersect(long[] sorted) {
+            long[] result = new long[Math.min(sorted.length, size)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < sorted.length && j < size) {
+                if (sorted[i] == ids[j]) {
+                    result[count++] = sorted[i];
+                    i++;
+                    j++;
+                } else if (sorted[i] < ids[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+    }
+}
@@ -1,59 +1,135 @@
 package com.company.ticketservice.service;
 
-import com.company.sns.EventMessage;
-import com.company.sns.SnsEventPublisher;
+import com.company.ticketservice.dto.CursorPageResponse;
 import com.company.ticketservice.dto.PageResponse;
 import com.company.ticketservice.dto.TicketCreateRequest;
+import com.company.ticketservice.dto.TicketCursor;
 import com.company.ticketservice.dto.TicketResponse;
 import com.company.ticketservice.dto.TicketSearchCondition;
+import com.company.ticketservice.dto.TicketSummaryResponse;
 import com.company.ticketservice.dto.TicketUpdateRequest;
+import com.company.ticketservice.dto.TotalCountMode;
+import com.company.ticketservice.entity.ImageRef;
 import com.company.ticketservice.entity.Ticket;
 import com.company.ticketservice.entity.TicketStatus;
 import com.company.ticketservice.entity.TradeType;
 import com.company.ticketservice.exception.BadRequestException;
+import com.company.ticketservice.exception.ConflictException;
 import com.company.ticketservice.exception.NotFoundException;
 import com.company.ticketservice.repository.TicketRepository;
 import com.company.ticketservice.repository.TicketSpecification;
+import com.company.ticketservice.repository.TicketSummary;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TicketService {
 
     private final TicketRepository ticketRepository;
-    private final SnsEventPublisher eventPublisher;
-
-    private static final String UPLOAD_DIR = "uploads/"; // 로컬 이미지 저장 경로
+    private final TicketEventOutbox ticketEventOutbox;
+    private final TicketCountCache ticketCountCache;
+    private final TicketSearchIndex ticketSearchIndex;
+    private final TicketDetailCache ticketDetailCache;
+    private final TicketSearchCache ticketSearchCache;
+    private final TicketExpirationWheel ticketExpirationWheel;
+    private final FavoriteRanking favoriteRanking;
+    private final ImageUploadService imageUploadService;
+    private final ImageBlobStore imageBlobStore;
 
     /**
      * 티켓 생성 (판매자)
      * - 인증된 userId는 Controller에서 전달받음
      * - ownerId는 request에서 받지 않고 userId로 강제 설정
      */
+    @Transactional
     public TicketResponse createTicket(Long userId, TicketCreateRequest request) {
         validateCreateRequest(request);
 
-        String savedImage1 = saveImageFile(request.getImage1());
-        String savedImage2 = saveImageFile(request.getImage2());
+        // 이미지는 staging까지만 옮기고 저장소 업로드는 커밋 후 비동기로 진행
+        ImageUploadService.StagedImage image1 = imageUploadService.stage(request.getImage1());
+        ImageUploadService.StagedImage image2 = imageUploadService.stage(request.getImage2());
+
+        Ticket ticket = newTicket(userId, request);
+        ticket.setImage1(pendingRef(image1));
+        ticket.setImage2(pendingRef(image2));
+
+        Ticket saved = ticketRepository.save(ticket);
+        imageUploadService.uploadAfterCommit(saved.getTicketId(), image1, image2);
+        ticketSearchIndex.put(saved);
+        ticketExpirationWheel.track(saved);
+        ticketSearchCache.invalidate(saved.getCategoryId(), saved.getTicketStatus());
+
+        // 이벤트 기록: ticket.created (같은 트랜잭션, 발행은 OutboxRelay)
+        ticketEventOutbox.append(
+            "ticket.created",
+            saved.getTicketId(),
+            Map.of(
+                "ticketId", saved.getTicketId(),
+                "ownerId", saved.getOwnerId(),
+                "eventName", saved.getEventName(),
+                "ticketStatus", saved.getTicketStatus().name()
+            )
+        );
+
+        return TicketResponse.fromEntity(saved);
+    }
+
+    /**
+     * 티켓 일괄 생성 (대량 등록 - TicketBulkCreateService가 청크 단위로 호출)
+     * - 행별 검증(validateCreateRequest)은 호출 측에서 끝낸 상태, 이미지는 받지 않음
+     * - 티켓/ticket.created 이벤트 모두 JDBC batch INSERT (청크 하나 = 트랜잭션 하나)
+     */
+    @Transactional
+    public List<Ticket> createTickets(Long userId, List<TicketCreateRequest> requests) {
+        List<Ticket> tickets = requests.stream()
+                .map(request -> newTicket(userId, request))
+                .toList();
+        ticketRepository.insertAll(tickets);
+
+        Map<Long, Map<String, Object>> events = new LinkedHashMap<>();
+        Set<Long> categoryIds = new HashSet<>();
+        for (Ticket ticket : tickets) {
+            ticketSearchIndex.put(ticket);
+            ticketExpirationWheel.track(ticket);
+            categoryIds.add(ticket.getCategoryId());
+            events.put(ticket.getTicketId(), Map.of(
+                "ticketId", ticket.getTicketId(),
+                "ownerId", ticket.getOwnerId(),
+                "eventName", ticket.getEventName(),
+                "ticketStatus", ticket.getTicketStatus().name()
+            ));
+        }
+        categoryIds.forEach(categoryId -> ticketSearchCache.invalidate(categoryId, TicketStatus.AVAILABLE));
+
+        // 이벤트 기록: ticket.created (같은 트랜잭션, 발행은 OutboxRelay가 PublishBatch로 묶어서)
+        ticketEventOutbox.appendAll("ticket.created", events);
+        return tickets;
+    }
 
-        Ticket ticket = Ticket.builder()
+    private static Ticket newTicket(Long userId, TicketCreateRequest request) {
+        return Ticket.builder()
                 .eventName(request.getEventName())
                 .eventDate(request.getEventDate())
                 .eventLocation(request.getEventLocation())
@@ -64,72 +140,19 @@ public class TicketService {
                 .seatInfo(request.getSeatInfo())
                 .ticketType(request.getTicketType())
                 .categoryId(request.getCategoryId())
-                .image1(savedImage1)
-                .image2(savedImage2)
                 .description(request.getDescription())
                 .tradeType(request.getTradeType())
                 .build();
-
-        Ticket saved = ticketRepository.save(ticket);
-
-        // 이벤트 발행: ticket.created
-        try {
-            EventMessage event = EventMessage.create(
-                "ticket.created",
-                "service-ticket",
-                Map.of(
-                    "ticketId", saved.getTicketId(),
-                    "ownerId", saved.getOwnerId(),
-                    "eventName", saved.getEventName(),
-                    "ticketStatus", saved.getTicketStatus().name()
-                )
-            );
-            eventPublisher.publishAsync("ticket-events", event);
-        } catch (Exception e) {
-            // 이벤트 발행 실패는 티켓 생성을 중단시키지 않음
-        }
-
-        return TicketResponse.fromEntity(saved);
     }
 
-    /**
-     * 이미지 파일 저장 (로컬)
-     * 로컬 개발 환경에서는 이미지 저장을 건너뛰고 파일명만 반환
-     */
-    private String saveImageFile(MultipartFile imageFile) {
-        if (imageFile == null || imageFile.isEmpty()) {
-            return null;
-        }
-        
-        // 로컬 개발 환경: 실제 파일 저장 없이 파일명만 반환
-        // 운영 환경에서는 S3 등으로 업로드하도록 변경 필요
-        String originalFilename = imageFile.getOriginalFilename();
-        if (originalFilename == null || originalFilename.isEmpty()) {
-            return UUID.randomUUID().toString();
-        }
-        
-        // 파일명만 생성하여 반환 (실제 파일 저장은 건너뜀)
-        String fileName = UUID.randomUUID() + "_" + originalFilename;
-        
-        // 로컬 파일 저장 시도 (선택적, 실패해도 계속 진행)
-        try {
-            File dir = new File(UPLOAD_DIR);
-            if (dir.exists() || dir.mkdirs()) {
-                File file = new File(dir, fileName);
-                imageFile.transferTo(file);
-            }
-        } catch (IOException | SecurityException e) {
-            // 파일 저장 실패해도 파일명은 반환 (로컬 개발 환경 대응)
-            // 로그만 남기고 계속 진행
-        }
-        
-        return fileName; // DB에는 파일명만 저장
+    private static String pendingRef(ImageUploadService.StagedImage image) {
+        return image == null ? null : ImageRef.pending(image.key());
     }
 
     /**
-     * 티켓 생성 시 검증 로직
+     * 티켓 생성 시 검증 로직 (대량 등록에서도 행별로 사용)
      */
-    private void validateCreateRequest(TicketCreateRequest request) {
+    void validateCreateRequest(TicketCreateRequest request) {
 
         if (request.getEventName() == null || request.getEventName().isBlank()) {
             throw new BadRequestException("공연/이벤트 이름은 필수 입력값입니다.");
@@ -180,65 +203,211 @@ public class TicketService {
     /**
      * 티켓 검색 (페이지네이션 지원)
      */
-    public PageResponse<TicketResponse> searchTickets(TicketSearchCondition condition, int page, int size, String sortBy, String sortDirection) {
-        // 정렬 설정
-        Sort sort;
-        if (sortBy != null && !sortBy.isBlank()) {
-            Sort.Direction direction = "DESC".equalsIgnoreCase(sortDirection) ? Sort.Direction.DESC : Sort.Direction.ASC;
-            
-            // 필드명 매핑
-            String fieldName;
-            String lowerSortBy = sortBy.toLowerCase();
-            if (lowerSortBy.equals("createdat") || lowerSortBy.equals("created_at") || lowerSortBy.equals("date")) {
-                fieldName = "createdAt";
-            } else if (lowerSortBy.equals("eventdate") || lowerSortBy.equals("event_date")) {
-                fieldName = "eventDate";
-            } else if (lowerSortBy.equals("price") || lowerSortBy.equals("sellingprice") || lowerSortBy.equals("selling_price")) {
-                fieldName = "sellingPrice";
-            } else if (lowerSortBy.equals("originalprice") || lowerSortBy.equals("original_price")) {
-                fieldName = "originalPrice";
-            } else {
-                fieldName = "eventDate"; // 기본값
-            }
-            
-            sort = Sort.by(direction, fieldName);
-            // 이벤트 날짜 정렬이 아닌 경우, 보조 정렬로 이벤트 날짜 추가
-            if (!"eventDate".equals(fieldName) && !"createdAt".equals(fieldName)) {
-                // createdAt 정렬의 경우 보조 정렬로 이벤트 날짜 추가하지 않음 (null 값 처리)
-                sort = sort.and(Sort.by(Sort.Direction.ASC, "eventDate"));
+    public PageResponse<TicketSummaryResponse> searchTickets(TicketSearchCondition condition, int page, int size, String sortBy, String sortDirection) {
+        return searchTickets(condition, page, size, sortBy, sortDirection, TotalCountMode.EXACT);
+    }
+
+    /**
+     * 티켓 검색 (페이지네이션 + 전체 개수 계산 방식 선택)
+     * - EXACT : 페이지 조회 + count(*) (기존 동작)
+     * - NONE : size + 1개만 조회해서 다음 페이지 여부 판단, count 쿼리 없음 (무한 스크롤용)
+     * - ESTIMATED : NONE과 같이 조회하고 전체 개수는 조건별 캐시 값 사용
+     * - 목록은 description 없는 프로젝션으로 조회
+     */
+    public PageResponse<TicketSummaryResponse> searchTickets(TicketSearchCondition condition, int page, int size, String sortBy, String sortDirection, TotalCountMode totalMode) {
+        Sort sort = resolveSort(sortBy, sortDirection);
+        TicketSearchCache.Key key = TicketSearchCache.Key.of(condition, page, size, toSortKey(sort), totalMode);
+        return ticketSearchCache.get(key, () -> loadTicketPage(condition, page, size, sort, totalMode));
+    }
+
+    private PageResponse<TicketSummaryResponse> loadTicketPage(TicketSearchCondition condition, int page, int size, Sort sort, TotalCountMode totalMode) {
+        Pageable pageable = PageRequest.of(page, size, sort);
+        Specification<Ticket> spec = buildSpecification(condition);
+
+        if (totalMode == TotalCountMode.EXACT) {
+            List<TicketSummary> summaries = ticketRepository.findSummaries(spec, sort, pageable.getOffset(), size);
+            // 첫 페이지에서 size보다 적게 조회되면 count 쿼리 생략 (Spring Data Page와 동일)
+            Page<TicketSummary> ticketPage = PageableExecutionUtils.getPage(
+                    summaries, pageable, () -> ticketRepository.count(spec));
+
+            List<TicketSummaryResponse> content = ticketPage.getContent().stream()
+                    .map(TicketSummaryResponse::from)
+                    .toList();
+
+            return new PageResponse<>(
+                    content,
+                    ticketPage.getNumber(),
+                    ticketPage.getSize(),
+                    ticketPage.getTotalElements(),
+                    ticketPage.getTotalPages(),
+                    ticketPage.isFirst(),
+                    ticketPage.isLast(),
+                    TotalCountMode.EXACT
+            );
+        }
+
+        List<TicketSummary> summaries = ticketRepository.findSummaries(spec, sort, pageable.getOffset(), size + 1);
+        boolean hasNext = summaries.size() > size;
+        List<TicketSummaryResponse> content = (hasNext ? summaries.subList(0, size) : summaries).stream()
+                .map(TicketSummaryResponse::from)
+                .toList();
+
+        long totalElements = -1;
+        int totalPages = -1;
+        if (totalMode == TotalCountMode.ESTIMATED) {
+            // 캐시 값이 현재 페이지까지 본 개수보다 작으면 보정
+            long seen = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+            long estimated = ticketCountCache.getEstimatedCount(
+                    condition.toCacheKey(),
+                    () -> ticketRepository.count(buildSpecification(condition))
+            );
+            totalElements = Math.max(estimated, seen);
+            totalPages = (int) Math.ceil((double) totalElements / size);
+        }
+
+        return new PageResponse<>(
+                content,
+                page,
+                size,
+                totalElements,
+                totalPages,
+                page == 0,
+                !hasNext,
+                totalMode
+        );
+    }
+
+    /**
+     * 티켓 검색 (커서 기반 페이지네이션)
+     * - OFFSET 대신 마지막 티켓의 (eventDate, ticketId) 이후만 조회 → 깊은 페이지도 첫 페이지와 같은 비용
+     * - count 쿼리 없이 size + 1개를 조회해서 다음 페이지 존재 여부 판단
+     * - cursor가 비어 있으면 첫 페이지
+     */
+    public CursorPageResponse<TicketSummaryResponse> searchTicketsByCursor(TicketSearchCondition condition, String cursor, int size, String sortBy, String sortDirection) {
+        if (size <= 0) {
+            throw new BadRequestException("페이지 크기는 0보다 커야 합니다.");
+        }
+
+        Sort sort = resolveKeysetSort(sortBy, sortDirection);
+        String sortKey = toSortKey(sort);
+
+        Specification<Ticket> spec = buildSpecification(condition);
+        if (cursor != null && !cursor.isBlank()) {
+            TicketCursor decoded = TicketCursor.decode(cursor);
+            if (!sortKey.equals(decoded.getSortKey())) {
+                throw new BadRequestException("커서의 정렬 기준이 요청과 일치하지 않습니다.");
             }
-            // createdAt이 null인 경우를 대비해 nullsLast 추가
-            if ("createdAt".equals(fieldName)) {
-                sort = sort.and(Sort.by(Sort.Direction.ASC, "eventDate")); // 보조 정렬
+            spec = spec.and(TicketSpecification.seekAfter(sort, decoded));
+        }
+
+        List<TicketSummary> summaries = ticketRepository.findSummaries(spec, sort, 0, size + 1);
+
+        boolean hasNext = summaries.size() > size;
+        List<TicketSummary> pageSummaries = hasNext ? summaries.subList(0, size) : summaries;
+
+        String nextCursor = hasNext
+                ? TicketCursor.of(sortKey, pageSummaries.get(pageSummaries.size() - 1)).encode()
+                : null;
+
+        List<TicketSummaryResponse> content = pageSummaries.stream()
+                .map(TicketSummaryResponse::from)
+                .toList();
+
+        return new CursorPageResponse<>(content, size, nextCursor, hasNext);
+    }
+
+    /**
+     * 검색 조건 → Specification
+     * - 키워드가 있으면 검색 색인에서 필터까지 적용한 ticketId를 먼저 찾고, DB에서 필터를 한 번 더 적용 (색인 값은 동기화 전까지 다를 수 있음)
+     * - 색인 미준비 시 LIKE 검색으로 대체
+     */
+    private Specification<Ticket> buildSpecification(TicketSearchCondition condition) {
+        String keyword = condition.getEventName();
+        if (keyword != null && !keyword.isBlank()) {
+            Optional<List<Long>> matchedIds = ticketSearchIndex.findTicketIds(condition);
+            if (matchedIds.isPresent()) {
+                return TicketSpecification.fromCondition(condition, matchedIds.get());
             }
-        } else {
+        }
+        return TicketSpecification.fromCondition(condition);
+    }
+
+    /**
+     * 정렬 파라미터 → Sort 변환
+     */
+    private Sort resolveSort(String sortBy, String sortDirection) {
+        if (sortBy == null || sortBy.isBlank()) {
             // 기본 정렬: 이벤트 날짜 오름차순 (가까운 날짜부터), 그 다음 생성일 내림차순 (최신순)
-            sort = Sort.by(
+            return Sort.by(
                     Sort.Order.asc("eventDate"),  // 이벤트 날짜가 가까운 순
                     Sort.Order.desc("createdAt")  // 같은 날짜면 최신순
             );
         }
-        
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<Ticket> ticketPage = ticketRepository.findAll(
-                TicketSpecification.fromCondition(condition),
-                pageable
-        );
 
-        List<TicketResponse> content = ticketPage.getContent().stream()
-                .map(TicketResponse::fromEntity)
-                .toList();
+        Sort.Direction direction = "DESC".equalsIgnoreCase(sortDirection) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        String fieldName = resolveSortField(sortBy);
 
-        return new PageResponse<>(
-                content,
-                ticketPage.getNumber(),
-                ticketPage.getSize(),
-                ticketPage.getTotalElements(),
-                ticketPage.getTotalPages(),
-                ticketPage.isFirst(),
-                ticketPage.isLast()
-        );
+        Sort sort = Sort.by(direction, fieldName);
+        // 이벤트 날짜 정렬이 아닌 경우, 보조 정렬로 이벤트 날짜 추가
+        if (!"eventDate".equals(fieldName) && !"createdAt".equals(fieldName)) {
+            // createdAt 정렬의 경우 보조 정렬로 이벤트 날짜 추가하지 않음 (null 값 처리)
+            sort = sort.and(Sort.by(Sort.Direction.ASC, "eventDate"));
+        }
+        // createdAt이 null인 경우를 대비해 nullsLast 추가
+        if ("createdAt".equals(fieldName)) {
+            sort = sort.and(Sort.by(Sort.Direction.ASC, "eventDate")); // 보조 정렬
+        }
+        return sort;
+    }
+
+    /**
+     * 커서 페이지네이션용 정렬
+     * - 커서에 담기는 값은 (eventDate, ticketId)뿐 (둘 다 NOT NULL → seek 비교가 항상 성립)
+     * - createdAt은 DB에서 채워지지 않을 수 있어 사용하지 않음, 등록순은 IDENTITY인 ticketId 순서로 대신함
+     * - 마지막에 ticketId를 붙여 정렬 순서를 유일하게 만듦
+     */
+    private Sort resolveKeysetSort(String sortBy, String sortDirection) {
+        if (sortBy == null || sortBy.isBlank()) {
+            // 기본 정렬: 이벤트 날짜가 가까운 순, 같은 날짜면 최신 등록순
+            return Sort.by(Sort.Order.asc("eventDate"), Sort.Order.desc("ticketId"));
+        }
+
+        Sort.Direction direction = "DESC".equalsIgnoreCase(sortDirection) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        String fieldName = resolveSortField(sortBy);
+
+        return switch (fieldName) {
+            case "eventDate" -> Sort.by(
+                    new Sort.Order(direction, "eventDate"),
+                    Sort.Order.desc("ticketId"));
+            case "createdAt" -> Sort.by(new Sort.Order(direction, "ticketId"));
+            default -> throw new BadRequestException("커서 페이지네이션은 날짜 정렬(eventDate, createdAt)에서만 지원됩니다.");
+        };
+    }
+
+    /**
+     * 정렬 필드명 매핑
+     */
+    private String resolveSortField(String sortBy) {
+        String lowerSortBy = sortBy.toLowerCase();
+        if (lowerSortBy.equals("createdat") || lowerSortBy.equals("created_at") || lowerSortBy.equals("date")) {
+            return "createdAt";
+        } else if (lowerSortBy.equals("eventdate") || lowerSortBy.equals("event_date")) {
+            return "eventDate";
+        } else if (lowerSortBy.equals("price") || lowerSortBy.equals("sellingprice") || lowerSortBy.equals("selling_price")) {
+            return "sellingPrice";
+        } else if (lowerSortBy.equals("originalprice") || lowerSortBy.equals("original_price")) {
+            return "originalPrice";
+        } else if (lowerSortBy.equals("favoritecount") || lowerSortBy.equals("favorite_count") || lowerSortBy.equals("popular")) {
+            return "favoriteCount";
+        }
+        return "eventDate"; // 기본값
+    }
+
+    /** 커서에 기록하는 정렬 식별자 (예: eventDate:ASC,ticketId:DESC) */
+    private String toSortKey(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
     }
 
     /**
@@ -247,7 +416,7 @@ public class TicketService {
     @Deprecated
     public List<TicketResponse> searchTickets(TicketSearchCondition condition) {
         List<Ticket> tickets = ticketRepository.findAll(
-                TicketSpecification.fromCondition(condition)
+                buildSpecification(condition)
         );
 
         return tickets.stream()
@@ -257,38 +426,69 @@ public class TicketService {
 
     /**
      * 티켓 상세 조회 (공개)
+     * - TicketDetailCache를 통한 read-through 조회
      */
     public TicketResponse getTicketDetail(Long ticketId) {
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new NotFoundException("티켓 ID: " + ticketId + "에 해당하는 티켓을 찾을 수 없습니다."));
-        return TicketResponse.fromEntity(ticket);
+        return ticketDetailCache.get(ticketId, id -> {
+            Ticket ticket = ticketRepository.findById(id)
+                    .orElseThrow(() -> new NotFoundException("티켓 ID: " + id + "에 해당하는 티켓을 찾을 수 없습니다."));
+            return TicketResponse.fromEntity(ticket);
+        });
+    }
+
+    /**
+     * 찜 많은 순 티켓 (공개)
+     * - 순위는 FavoriteRanking 스냅샷에서 가져오고, 목록 컬럼만 PK IN 조회
+     * - 그 사이 판매 완료 등으로 AVAILABLE이 아니게 된 티켓은 제외
+     */
+    public List<TicketSummaryResponse> getMostFavoritedTickets(Long categoryId, int limit) {
+        if (limit <= 0 || limit > favoriteRanking.capacity()) {
+            throw new BadRequestException("limit은 1 이상 " + favoriteRanking.capacity() + " 이하여야 합니다.");
+        }
+        List<Long> ticketIds = favoriteRanking.top(categoryId, limit);
+        if (ticketIds.isEmpty()) {
+            return List.of();
+        }
+
+        TicketSearchCondition condition = new TicketSearchCondition();
+        condition.setTicketStatus(TicketStatus.AVAILABLE);
+        condition.setCategoryId(categoryId);
+
+        return ticketRepository.findSummaries(TicketSpecification.fromCondition(condition, ticketIds), Sort.unsorted(), 0, 0)
+                .stream()
+                .sorted(Comparator.comparingLong(TicketSummary::favoriteCount).reversed()
+                        .thenComparing(TicketSummary::ticketId))
+                .map(TicketSummaryResponse::from)
+                .toList();
     }
 
     /**
      * 판매자 본인 티켓 조회 (인증 필요)
      * - Controller에서 userId 전달
      */
-    public List<TicketResponse> searchSellerTickets(Long ownerId) {
+    public List<TicketSummaryResponse> searchSellerTickets(Long ownerId) {
         TicketSearchCondition condition = new TicketSearchCondition();
         condition.setOwnerId(ownerId);
 
-        List<Ticket> tickets = ticketRepository.findAll(
-                TicketSpecification.fromCondition(condition)
+        List<TicketSummary> summaries = ticketRepository.findSummaries(
+                TicketSpecification.fromCondition(condition), Sort.unsorted(), 0, 0
         );
 
-        if (tickets.isEmpty()) {
+        if (summaries.isEmpty()) {
             throw new NotFoundException("등록한 티켓이 없습니다.");
         }
 
-        return tickets.stream()
-                .map(TicketResponse::fromEntity)
+        return summaries.stream()
+                .map(TicketSummaryResponse::from)
                 .toList();
     }
 
     /**
      * 티켓 수정 (인증 + 인가 필요)
      * - 본인(ownerId) 티켓만 수정 가능
+     * - 조회 후 그 사이 상태가 바뀌었으면 version 불일치로 409
      */
+    @Transactional
     public TicketResponse updateTicket(Long ticketId, Long userId, TicketUpdateRequest request) {
 
         Ticket ticket = ticketRepository.findById(ticketId)
@@ -307,6 +507,8 @@ public class TicketService {
 
         validateUpdateRequest(request, ticket);
 
+        Long oldCategoryId = ticket.getCategoryId();
+
         if (request.getEventName() != null && !request.getEventName().isBlank()) {
             ticket.setEventName(request.getEventName());
         }
@@ -339,14 +541,30 @@ public class TicketService {
         if (request.getDescription() != null) ticket.setDescription(request.getDescription());
         if (request.getTradeType() != null) ticket.setTradeType(request.getTradeType());
 
-        if (request.getImage1() != null && !request.getImage1().isEmpty()) {
-            ticket.setImage1(saveImageFile(request.getImage1()));
+        ImageUploadService.StagedImage image1 = imageUploadService.stage(request.getImage1());
+        ImageUploadService.StagedImage image2 = imageUploadService.stage(request.getImage2());
+        if (image1 != null) {
+            imageBlobStore.release(ticket.getImage1());
+            ticket.setImage1(pendingRef(image1));
+            ticket.setImage1Thumbnail(null);
+            ticket.setImage1Web(null);
         }
-        if (request.getImage2() != null && !request.getImage2().isEmpty()) {
-            ticket.setImage2(saveImageFile(request.getImage2()));
+        if (image2 != null) {
+            imageBlobStore.release(ticket.getImage2());
+            ticket.setImage2(pendingRef(image2));
+            ticket.setImage2Thumbnail(null);
+            ticket.setImage2Web(null);
         }
 
         Ticket updatedTicket = ticketRepository.save(ticket);
+        imageUploadService.uploadAfterCommit(ticketId, image1, image2);
+        ticketSearchIndex.put(updatedTicket);
+        ticketExpirationWheel.track(updatedTicket);
+        ticketDetailCache.invalidate(ticketId);
+        ticketSearchCache.invalidate(oldCategoryId, updatedTicket.getTicketStatus());
+        if (!Objects.equals(oldCategoryId, updatedTicket.getCategoryId())) {
+            ticketSearchCache.invalidate(updatedTicket.getCategoryId(), updatedTicket.getTicketStatus());
+        }
         return TicketResponse.fromEntity(updatedTicket);
     }
 
@@ -385,7 +603,9 @@ public class TicketService {
     /**
      * 티켓 삭제 (인증 + 인가 필요)
      * - 본인(ownerId) 티켓만 삭제 가능
+     * - 조회 후 그 사이 상태가 바뀌었으면 version 불일치로 409
      */
+    @Transactional
     public void deleteTicket(Long ticketId, Long userId) {
 
         Ticket ticket = ticketRepository.findById(ticketId)
@@ -400,8 +620,14 @@ public class TicketService {
             throw new BadRequestException("현재 상태에서는 티켓을 삭제할 수 없습니다.");
         }
 
-
+        // 다른 티켓이 참조하지 않는 이미지만 저장소에서 삭제됨 (ImageBlobStore)
+        imageBlobStore.release(ticket.getImage1());
+        imageBlobStore.release(ticket.getImage2());
         ticketRepository.delete(ticket);
+        ticketSearchIndex.remove(ticketId);
+        ticketExpirationWheel.cancel(ticketId);
+        ticketDetailCache.invalidate(ticketId);
+        ticketSearchCache.invalidate(ticket.getCategoryId(), ticket.getTicketStatus());
     }
 
     /**
@@ -412,6 +638,7 @@ public class TicketService {
 
         if (availableFutureTickets < 100) {
             initializeFutureTickets();
+            ticketSearchCache.invalidateStatuses(TicketStatus.AVAILABLE);
         }
     }
 
@@ -419,11 +646,7 @@ public class TicketService {
      * 미래 날짜의 AVAILABLE 티켓 개수 조회
      */
     public long countAvailableFutureTickets() {
-        LocalDateTime now = LocalDateTime.now();
-        return ticketRepository.findAll().stream()
-                .filter(t -> t.getTicketStatus() == TicketStatus.AVAILABLE)
-                .filter(t -> t.getEventDate().isAfter(now))
-                .count();
+        return ticketRepository.countByTicketStatusAndEventDateAfter(TicketStatus.AVAILABLE, LocalDateTime.now());
     }
 
     /**
@@ -632,6 +855,9 @@ public class TicketService {
      * - 여기서 '누가 변경할 수 있는지' 정책을 정해야 함
      *   (예: 판매자만? 구매자도? 관리자만?)
      * - 우선 안전하게: '판매자(소유자)만 변경 가능'으로 구현
+     * - 조건부 UPDATE(compare-and-set) 한 번으로 검증 + 변경, 동시에 들어온 요청 중 하나만 성공하고 나머지는 409
+     * - 성공 후 같은 트랜잭션에서 한 번 조회해서 전체 티켓 응답 (잠금 없는 조회)
+     * - 이미 요청한 상태면 변경 없이 200 (이벤트 기록 없음)
      */
     @Transactional
     public TicketResponse updateTicketStatus(Long ticketId, Long userId, String newStatusString) {
@@ -643,43 +869,51 @@ public class TicketService {
             throw new IllegalArgumentException("존재하지 않는 티켓 상태 값입니다: " + newStatusString);
         }
 
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new EntityNotFoundException("ID " + ticketId + "인 티켓을 찾을 수 없습니다."));
+        Set<TicketStatus> allowedFrom = TicketStatus.sourcesOf(newStatus);
+        int updated = allowedFrom.isEmpty()
+                ? 0
+                : ticketRepository.compareAndSetStatus(ticketId, userId, allowedFrom, newStatus);
 
-        // 인가(안전): 소유자만 상태 변경 가능
-        if (!Objects.equals(ticket.getOwnerId(), userId)) {
-            throw new BadRequestException("본인 티켓만 상태를 변경할 수 있습니다.");
-        }
-
-        if (!ticket.getTicketStatus().canChangeTo(newStatus)) {
-            throw new IllegalStateException(
+        if (updated == 0) {
+            // 실패 원인 구분 (성공 경로에는 없는 조회)
+            Ticket ticket = ticketRepository.findById(ticketId)
+                    .orElseThrow(() -> new EntityNotFoundException("ID " + ticketId + "인 티켓을 찾을 수 없습니다."));
+            if (!Objects.equals(ticket.getOwnerId(), userId)) {
+                throw new BadRequestException("본인 티켓만 상태를 변경할 수 있습니다.");
+            }
+            if (ticket.getTicketStatus() == newStatus) {
+                return TicketResponse.fromEntity(ticket);
+            }
+            throw new ConflictException(
                     String.format("현재 상태 (%s)에서는 %s 상태로 변경할 수 없습니다.",
                             ticket.getTicketStatus(), newStatus)
             );
         }
 
+        // 변경 후 상태는 AVAILABLE이 아님 (AVAILABLE로 가는 전이 없음) → 만료 대상에서 제외
+        ticketExpirationWheel.cancel(ticketId);
+        ticketDetailCache.invalidate(ticketId);
+        // 카테고리를 모르므로 변경 전 후보/변경 후 상태 기준으로만 무효화
+        Set<TicketStatus> affected = EnumSet.copyOf(allowedFrom);
+        affected.add(newStatus);
+        ticketSearchCache.invalidateStatuses(affected.toArray(TicketStatus[]::new));
 
-        TicketStatus oldStatus = ticket.getTicketStatus();
-        ticket.setTicketStatus(newStatus);
-
-        // 이벤트 발행: ticket.status.changed
-        try {
-            EventMessage event = EventMessage.create(
-                "ticket.status.changed",
-                "service-ticket",
-                Map.of(
-                    "ticketId", ticketId,
-                    "ownerId", ticket.getOwnerId(),
-                    "oldStatus", oldStatus.name(),
-                    "newStatus", newStatus.name()
-                )
-            );
-            eventPublisher.publishAsync("ticket-events", event);
-        } catch (Exception e) {
-            // 이벤트 발행 실패는 상태 변경을 중단시키지 않음
+        // 이벤트 기록: ticket.status.changed (같은 트랜잭션, 발행은 OutboxRelay)
+        // - 변경 전 상태는 후보가 하나일 때만 확정 가능 (현재 전이 규칙은 모두 하나)
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("ticketId", ticketId);
+        payload.put("ownerId", userId);
+        if (allowedFrom.size() == 1) {
+            payload.put("oldStatus", allowedFrom.iterator().next().name());
         }
+        payload.put("newStatus", newStatus.name());
+        ticketEventOutbox.append("ticket.status.changed", ticketId, payload);
 
-        return TicketResponse.fromEntity(ticket);
+        Ticket updated = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new EntityNotFoundException("ID " + ticketId + "인 티켓을 찾을 수 없습니다."));
+        // 검색 색인의 상태 필터 값 갱신 (커밋 후)
+        ticketSearchIndex.put(updated);
+        return TicketResponse.fromEntity(updated);
     }
 
 
@@ -0,0 +1,24 @@
+package com.company.ticketservice.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 티켓 이미지 저장소
+ * - key: 저장소 안의 상대 경로 (Ticket.image1/image2에 저장되는 값)
+ * - ticket.image.storage.type으로 구현 선택 (local: 로컬 디렉터리, s3: S3 호환 오브젝트 스토리지)
+ */
+public interface ImageStorage {
+
+    /**
+     * source 파일 내용을 key로 저장 (같은 key가 있으면 덮어씀)
+     * - source는 호출 측 소유, 저장 후에도 삭제하지 않음
+     */
+    void store(String key, Path source, String contentType) throws IOException;
+
+    /** key 삭제 (없으면 무시) */
+    void delete(String key) throws IOException;
+
+    /** 읽기용으로 열기 (없으면 null) */
+    StoredImage open(String key) throws IOException;
+}
@@ -0,0 +1,96 @@
+package com.company.ticketservice.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * S3 호환 오브젝트 스토리지 이미지 저장소
+ * - 파일에서 바로 스트리밍 업로드 (전체를 메모리에 올리지 않음)
+ * - 로컬 개발/테스트는 ticket.image.storage.s3.endpoint로 MinIO 등을 지정 (docker-compose의 minio)
+ */
+@Component
+@ConditionalOnProperty(name = "ticket.image.storage.type", havingValue = "s3")
+public class S3ImageStorage implements ImageStorage {
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String prefix;
+
+    public S3ImageStorage(
+            S3Client s3Client,
+            @Value("${ticket.image.storage.s3.bucket}") String bucket,
+            @Value("${ticket.image.storage.s3.prefix:tickets/}") String prefix
+    ) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public void store(String key, Path source, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(prefix + key)
+                        .contentType(contentType)
+                        .build(),
+                RequestBody.fromFile(source));
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(prefix + key)
+                .build());
+    }
+
+    /**
+     * HEAD로 크기만 확인, 본문은 요청 구간만 Range GET으로 스트리밍
+     */
+    @Override
+    public StoredImage open(String key) {
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(prefix + key)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+        long size = head.contentLength();
+        return new StoredImage() {
+            @Override
+            public long size() {
+                return size;
+            }
+
+            @Override
+            public InputStream openStream(long start, long length) {
+                return s3Client.getObject(GetObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(prefix + key)
+                        .range("bytes=" + start + "-" + (start + length - 1))
+                        .build());
+            }
+        };
+    }
+}
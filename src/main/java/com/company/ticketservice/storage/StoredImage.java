@@ -0,0 +1,24 @@
+package com.company.ticketservice.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 읽기용으로 연 저장소 이미지 (ImageStorage.open)
+ */
+public interface StoredImage {
+
+    long size();
+
+    /** 로컬 파일이면 경로 (sendfile/transferTo로 바로 전송), 아니면 null */
+    default Path file() {
+        return null;
+    }
+
+    /**
+     * start부터 length 바이트를 읽는 스트림
+     * - 호출 측이 닫아야 함
+     */
+    InputStream openStream(long start, long length) throws IOException;
+}
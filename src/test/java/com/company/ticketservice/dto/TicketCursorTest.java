@@ -0,0 +1,63 @@
+package com.company.ticketservice.dto;
+
+import com.company.ticketservice.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketCursorTest {
+
+    private static final String SORT_KEY = "eventDate:ASC,ticketId:DESC";
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        LocalDateTime eventDate = LocalDateTime.of(2026, 12, 24, 19, 30, 0, 123_000_000);
+        TicketCursor cursor = new TicketCursor(SORT_KEY, eventDate, 42L);
+
+        String token = cursor.encode();
+        TicketCursor decoded = TicketCursor.decode(token);
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(decoded.getSortKey()).isEqualTo(SORT_KEY);
+        assertThat(decoded.getEventDate()).isEqualTo(eventDate);
+        assertThat(decoded.getTicketId()).isEqualTo(42L);
+        assertThat(decoded.valueOf("eventDate")).isEqualTo(eventDate);
+        assertThat(decoded.valueOf("ticketId")).isEqualTo(42L);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> TicketCursor.decode("not base64!"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> TicketCursor.decode(encode(SORT_KEY + "|2026-12-24T19:30|abc")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> TicketCursor.decode(encode(SORT_KEY + "|null|1")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsCursorFromPreviousFormat() {
+        // (eventDate, createdAt, ticketId) 4필드 형식
+        String legacy = encode("eventDate:ASC,createdAt:DESC,ticketId:DESC|2026-12-24T19:30|null|1");
+
+        assertThatThrownBy(() -> TicketCursor.decode(legacy))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsUnsupportedSortField() {
+        TicketCursor cursor = new TicketCursor(SORT_KEY, LocalDateTime.now(), 1L);
+
+        assertThatThrownBy(() -> cursor.valueOf("createdAt"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
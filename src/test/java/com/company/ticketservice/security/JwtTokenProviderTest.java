@@ -0,0 +1,55 @@
+package com.company.ticketservice.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "TestSecretKeyForJwtTokenProviderTest0123456789";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(
+            SECRET, 100, Duration.ofMinutes(30), Duration.ofMinutes(10), Duration.ofSeconds(10));
+
+    @Test
+    void authenticatesNumericSubject() {
+        Optional<Authentication> authentication = provider.authenticate(token("42", "SELLER"));
+
+        assertThat(authentication).isPresent();
+        assertThat(authentication.get().getPrincipal()).isEqualTo(42L);
+        assertThat(authentication.get().getAuthorities()).extracting(Object::toString).containsExactly("ROLE_SELLER");
+    }
+
+    @Test
+    void rejectsNonNumericSubject() {
+        assertThat(provider.authenticate(token("alice", null))).isEmpty();
+    }
+
+    @Test
+    void rejectsTokenSignedWithOtherKey() {
+        String token = Jwts.builder()
+                .setSubject("42")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("AnotherSecretKeyThatDoesNotMatch0123456789".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(provider.authenticate(token)).isEmpty();
+    }
+
+    private static String token(String subject, String role) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim("role", role)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,44 @@
+package com.company.ticketservice.security;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class RateLimitedLogTest {
+
+    private final Logger logger = mock(Logger.class);
+
+    @Test
+    void logsOncePerIntervalPerKey() {
+        RateLimitedLog rateLimitedLog = new RateLimitedLog(logger, 60_000);
+
+        rateLimitedLog.warn("expired", "expired token");
+        rateLimitedLog.warn("expired", "expired token");
+        rateLimitedLog.warn("expired", "expired token");
+        rateLimitedLog.warn("signature", "invalid signature");
+
+        verify(logger).warn("expired token");
+        verify(logger).warn("invalid signature");
+        verifyNoMoreInteractions(logger);
+    }
+
+    @Test
+    void reportsSuppressedCountOnNextLog() throws InterruptedException {
+        RateLimitedLog rateLimitedLog = new RateLimitedLog(logger, 50);
+
+        rateLimitedLog.warn("expired", "expired token");
+        rateLimitedLog.warn("expired", "expired token");
+        rateLimitedLog.warn("expired", "expired token");
+        Thread.sleep(80);
+        rateLimitedLog.warn("expired", "expired token");
+
+        verify(logger, times(1)).warn("expired token");
+        verify(logger).warn("{} (suppressed {} similar)", "expired token", 2L);
+        verify(logger, times(1)).warn(anyString());
+    }
+}
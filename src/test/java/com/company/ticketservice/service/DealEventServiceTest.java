@@ -0,0 +1,91 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.entity.Ticket;
+import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.repository.TicketRepository;
+import com.company.ticketservice.service.DealEventService.Outcome;
+import com.company.ticketservice.service.DealEventService.Transition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DealEventServiceTest {
+
+    private final TicketRepository ticketRepository = mock(TicketRepository.class);
+    private final ProcessedEventStore processedEventStore = mock(ProcessedEventStore.class);
+
+    private final DealEventService service = new DealEventService(
+            ticketRepository,
+            mock(TicketEventOutbox.class),
+            mock(TicketDetailCache.class),
+            mock(TicketSearchCache.class),
+            processedEventStore
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(processedEventStore.markProcessed(anyString(), anyString())).thenReturn(true);
+    }
+
+    @Test
+    void appliesConfirmedFromReserved() {
+        when(ticketRepository.findAllForUpdate(anyCollection())).thenReturn(List.of(ticket(1L, TicketStatus.RESERVED)));
+
+        List<Outcome> outcomes = service.apply(List.of(confirmed("e1", 1L)));
+
+        assertThat(outcomes).containsExactly(Outcome.APPLIED);
+        verify(ticketRepository).updateStatusByIds(List.of(1L), TicketStatus.RESERVED, TicketStatus.SOLD);
+    }
+
+    @Test
+    void rejectsEventWhenTicketIsNotInExpectedSourceStatus() {
+        // 거래 취소 후 다시 판매 중인 티켓에 늦게 도착한 deal.confirmed
+        when(ticketRepository.findAllForUpdate(anyCollection())).thenReturn(List.of(ticket(1L, TicketStatus.AVAILABLE)));
+
+        List<Outcome> outcomes = service.apply(List.of(confirmed("e1", 1L)));
+
+        assertThat(outcomes).containsExactly(Outcome.INVALID);
+        verify(ticketRepository, never()).updateStatusByIds(anyCollection(), any(), any());
+        verify(processedEventStore, never()).markProcessed(anyString(), anyString());
+    }
+
+    @Test
+    void skipsTicketAlreadyInTargetStatus() {
+        when(ticketRepository.findAllForUpdate(anyCollection())).thenReturn(List.of(ticket(1L, TicketStatus.SOLD)));
+
+        List<Outcome> outcomes = service.apply(List.of(confirmed("e1", 1L)));
+
+        assertThat(outcomes).containsExactly(Outcome.SKIPPED);
+    }
+
+    @Test
+    void appliesOnlyFirstOfRepeatedEventsForSameTicketInBatch() {
+        when(ticketRepository.findAllForUpdate(anyCollection())).thenReturn(List.of(ticket(1L, TicketStatus.RESERVED)));
+
+        List<Outcome> outcomes = service.apply(List.of(confirmed("e1", 1L), confirmed("e2", 1L), confirmed("e3", 2L)));
+
+        assertThat(outcomes).containsExactly(Outcome.APPLIED, Outcome.SKIPPED, Outcome.NOT_FOUND);
+    }
+
+    private static Transition confirmed(String eventId, Long ticketId) {
+        return new Transition(eventId, "deal.confirmed", ticketId, 100L, TicketStatus.RESERVED, TicketStatus.SOLD);
+    }
+
+    private static Ticket ticket(Long ticketId, TicketStatus status) {
+        return Ticket.builder()
+                .ticketId(ticketId)
+                .ownerId(10L)
+                .ticketStatus(status)
+                .build();
+    }
+}
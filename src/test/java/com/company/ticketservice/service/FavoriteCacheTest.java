@@ -0,0 +1,82 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.repository.FavoriteChangeRepository;
+import com.company.ticketservice.repository.FavoriteRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FavoriteCacheTest {
+
+    private final FavoriteRepository favoriteRepository = mock(FavoriteRepository.class);
+    private final FavoriteChangeRepository favoriteChangeRepository = mock(FavoriteChangeRepository.class);
+
+    private final FavoriteCache cache = new FavoriteCache(favoriteRepository, favoriteChangeRepository,
+            new SimpleMeterRegistry(), 100, Duration.ofMinutes(30), Duration.ofSeconds(5), Duration.ofHours(1));
+
+    @Test
+    void loadsUnsortedIdsAndRetainsInInputOrder() {
+        when(favoriteRepository.findTicketIdsByUserId(1L)).thenReturn(List.of(30L, 10L, 20L));
+
+        assertThat(cache.contains(1L, 20L)).isTrue();
+        assertThat(cache.contains(1L, 25L)).isFalse();
+        assertThat(cache.retain(1L, List.of(20L, 5L, 30L, 10L))).containsExactly(20L, 30L, 10L);
+        verify(favoriteRepository, times(1)).findTicketIdsByUserId(1L);
+    }
+
+    @Test
+    void insertsAndRemovesAtSortedPositions() {
+        when(favoriteRepository.findTicketIdsByUserId(1L)).thenReturn(List.of(10L, 30L));
+        cache.contains(1L, 10L);
+
+        // 트랜잭션 밖이라 바로 반영
+        cache.changed(1L, 5L, true);
+        cache.changed(1L, 20L, true);
+        cache.changed(1L, 40L, true);
+        cache.changed(1L, 20L, true);
+        cache.changed(1L, 30L, false);
+        cache.changed(1L, 99L, false);
+
+        assertThat(cache.retain(1L, List.of(5L, 10L, 20L, 30L, 40L, 99L))).containsExactly(5L, 10L, 20L, 40L);
+        verify(favoriteRepository, times(1)).findTicketIdsByUserId(1L);
+    }
+
+    @Test
+    void removesLastRemainingFavorite() {
+        when(favoriteRepository.findTicketIdsByUserId(1L)).thenReturn(List.of(10L));
+        cache.contains(1L, 10L);
+
+        cache.changed(1L, 10L, false);
+
+        assertThat(cache.contains(1L, 10L)).isFalse();
+    }
+
+    @Test
+    void changeForUncachedUserDoesNotLoad() {
+        cache.changed(2L, 10L, true);
+
+        verify(favoriteRepository, never()).findTicketIdsByUserId(2L);
+    }
+
+    @Test
+    void reloadsUsersChangedOnOtherInstances() {
+        when(favoriteRepository.findTicketIdsByUserId(1L)).thenReturn(List.of(10L)).thenReturn(List.of(10L, 20L));
+        when(favoriteChangeRepository.findUserIdsChangedSince(any(LocalDateTime.class))).thenReturn(List.of(1L));
+        assertThat(cache.contains(1L, 20L)).isFalse();
+
+        cache.syncRecentChanges();
+
+        assertThat(cache.contains(1L, 20L)).isTrue();
+    }
+}
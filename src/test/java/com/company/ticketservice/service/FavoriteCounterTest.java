@@ -0,0 +1,80 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FavoriteCounterTest {
+
+    private final TicketRepository ticketRepository = mock(TicketRepository.class);
+    private final SchedulerLeaseService leaseService = mock(SchedulerLeaseService.class);
+
+    private final FavoriteCounter counter = new FavoriteCounter(ticketRepository, leaseService, 500, 100, Duration.ofMinutes(10), Duration.ofMinutes(1));
+
+    @BeforeEach
+    void setUp() {
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+    }
+
+    @Test
+    void flushesPendingDeltasBeforeReconcilingIdRanges() {
+        counter.record(7L, 1);
+        when(ticketRepository.findMaxTicketId()).thenReturn(250L);
+
+        counter.reconcile();
+
+        InOrder order = inOrder(ticketRepository);
+        order.verify(ticketRepository).addFavoriteCount(List.of(7L), 1);
+        order.verify(ticketRepository).reconcileFavoriteCounts(eq(1L), eq(100L), any(LocalDateTime.class));
+        order.verify(ticketRepository).reconcileFavoriteCounts(eq(101L), eq(200L), any(LocalDateTime.class));
+        order.verify(ticketRepository).reconcileFavoriteCounts(eq(201L), eq(300L), any(LocalDateTime.class));
+        verify(leaseService).release(anyString());
+    }
+
+    @Test
+    void reconcilesOnlyTicketsSettledForSettleWindow() {
+        when(ticketRepository.findMaxTicketId()).thenReturn(10L);
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        counter.reconcile();
+
+        verify(ticketRepository).reconcileFavoriteCounts(eq(1L), eq(100L), argThat(before ->
+                !before.isBefore(startedAt.minusMinutes(1)) && before.isBefore(startedAt)));
+    }
+
+    @Test
+    void releasesLeaseWhenReconcileFails() {
+        when(ticketRepository.findMaxTicketId()).thenReturn(10L);
+        when(ticketRepository.reconcileFavoriteCounts(anyLong(), anyLong(), any(LocalDateTime.class))).thenThrow(new IllegalStateException("db down"));
+
+        counter.reconcile();
+
+        verify(leaseService).release(anyString());
+    }
+
+    @Test
+    void skipsWhenLeaseIsHeldElsewhere() {
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(false);
+
+        counter.reconcile();
+
+        verify(ticketRepository, never()).findMaxTicketId();
+        verify(leaseService, never()).release(anyString());
+    }
+}
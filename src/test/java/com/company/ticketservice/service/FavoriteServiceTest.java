@@ -0,0 +1,54 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.dto.TicketSummaryResponse;
+import com.company.ticketservice.exception.BadRequestException;
+import com.company.ticketservice.repository.FavoriteRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FavoriteServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final FavoriteCache favoriteCache = mock(FavoriteCache.class);
+
+    private final FavoriteService favoriteService =
+            new FavoriteService(mock(FavoriteRepository.class), favoriteCache, mock(FavoriteCounter.class));
+
+    @Test
+    void marksListingLargerThanLookupLimit() {
+        List<Long> ticketIds = LongStream.rangeClosed(1, FavoriteService.MAX_LOOKUP_SIZE * 2L).boxed().toList();
+        List<TicketSummaryResponse> tickets = ticketIds.stream()
+                .map(ticketId -> TicketSummaryResponse.builder().ticketId(ticketId).build())
+                .toList();
+        when(favoriteCache.retain(USER_ID, ticketIds)).thenReturn(Set.of(3L, 150L));
+
+        List<TicketSummaryResponse> marked = favoriteService.markFavorites(USER_ID, tickets);
+
+        assertThat(marked).hasSize(200);
+        assertThat(marked).filteredOn(TicketSummaryResponse::getFavorite)
+                .extracting(TicketSummaryResponse::getTicketId)
+                .containsExactly(3L, 150L);
+        // 캐시된 원본 응답은 그대로
+        assertThat(tickets.get(2).getFavorite()).isNull();
+    }
+
+    @Test
+    void lookupEndpointKeepsLimit() {
+        List<Long> ticketIds = LongStream.rangeClosed(1, FavoriteService.MAX_LOOKUP_SIZE + 1L).boxed().toList();
+        when(favoriteCache.retain(eq(USER_ID), anyCollection())).thenReturn(Set.of());
+
+        assertThatThrownBy(() -> favoriteService.findFavoriteTicketIds(USER_ID, ticketIds))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,144 @@
+package com.company.ticketservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FavoriteToggleCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FavoriteToggleCoalescer coalescer = new FavoriteToggleCoalescer(meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // 찜 상태 + 실제 토글 횟수 (첫 토글은 release까지 대기)
+    private final AtomicBoolean favorite = new AtomicBoolean();
+    private final AtomicInteger applied = new AtomicInteger();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void evenFollowersCancelOutAndEveryoneGetsFinalState() throws Exception {
+        List<CompletableFuture<Boolean>> results = toggleConcurrently(2);
+
+        assertThat(applied).hasValue(1);
+        assertThat(results).allSatisfy(result -> assertThat(result.get(5, TimeUnit.SECONDS)).isTrue());
+    }
+
+    @Test
+    void oddFollowersApplyOneMoreToggle() throws Exception {
+        List<CompletableFuture<Boolean>> results = toggleConcurrently(3);
+
+        assertThat(applied).hasValue(2);
+        assertThat(results).allSatisfy(result -> assertThat(result.get(5, TimeUnit.SECONDS)).isFalse());
+    }
+
+    @Test
+    void retriesLockConflict() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        boolean result = coalescer.toggle(1L, 10L, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new CannotAcquireLockException("deadlock");
+            }
+            return true;
+        });
+
+        assertThat(result).isTrue();
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> coalescer.toggle(1L, 10L, () -> {
+            attempts.incrementAndGet();
+            throw new CannotAcquireLockException("deadlock");
+        })).isInstanceOf(CannotAcquireLockException.class);
+        assertThat(attempts).hasValue(3);
+
+        // 실패한 배치는 남지 않음
+        assertThat(coalescer.toggle(1L, 10L, () -> true)).isTrue();
+    }
+
+    @Test
+    void followersReceiveLeaderFailure() throws Exception {
+        CompletableFuture<Boolean> leader = CompletableFuture.supplyAsync(() -> coalescer.toggle(1L, 10L, () -> {
+            entered.countDown();
+            await(release);
+            throw new IllegalStateException("db down");
+        }), executor);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> follower = CompletableFuture.supplyAsync(() -> coalescer.toggle(1L, 10L, () -> true), executor);
+        awaitCoalesced(1);
+
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    /** 리더 토글이 진행 중인 동안 followers개 요청을 합류시킨 뒤 풀어줌, 리더 포함 결과 반환 */
+    private List<CompletableFuture<Boolean>> toggleConcurrently(int followers) throws Exception {
+        Supplier<Boolean> toggle = () -> {
+            if (applied.incrementAndGet() == 1) {
+                entered.countDown();
+                await(release);
+            }
+            boolean toggled = !favorite.get();
+            favorite.set(toggled);
+            return toggled;
+        };
+
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        results.add(CompletableFuture.supplyAsync(() -> coalescer.toggle(1L, 10L, toggle), executor));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < followers; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> coalescer.toggle(1L, 10L, toggle), executor));
+        }
+        awaitCoalesced(followers);
+
+        release.countDown();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        return results;
+    }
+
+    private void awaitCoalesced(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("ticket.favorite.toggle").tag("result", "coalesced").counter().count() < count) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.service.HierarchicalTimingWheel.Timer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    // 10ms x 4 → 40ms x 4 → 160ms x 4 ...
+    private final HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 4, 0);
+
+    private final List<Long> expired = new ArrayList<>();
+
+    @Test
+    void firesOnlyAfterSlotOfDeadlineHasPassed() {
+        assertThat(wheel.add(new Timer(1L, 25))).isTrue();
+
+        wheel.advance(20, timer -> expired.add(timer.ticketId()));
+        assertThat(expired).isEmpty();
+
+        wheel.advance(30, timer -> expired.add(timer.ticketId()));
+        assertThat(expired).containsExactly(1L);
+    }
+
+    @Test
+    void cascadesTimerFromUpperWheels() {
+        // 최하위 휠 범위(40ms)를 여러 단계 넘는 deadline
+        assertThat(wheel.add(new Timer(1L, 1000))).isTrue();
+
+        wheel.advance(1000, timer -> expired.add(timer.ticketId()));
+        assertThat(expired).isEmpty();
+
+        wheel.advance(1010, timer -> expired.add(timer.ticketId()));
+        assertThat(expired).containsExactly(1L);
+    }
+
+    @Test
+    void rejectsTimerWhoseDeadlineAlreadyPassed() {
+        HierarchicalTimingWheel started = new HierarchicalTimingWheel(10, 4, 100);
+
+        assertThat(started.add(new Timer(1L, 50))).isFalse();
+        assertThat(started.add(new Timer(2L, 100))).isTrue();
+    }
+
+    @Test
+    void firesEveryTimerOnceNeverEarlyAndWithinOneTick() {
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long id = 0; id < 300; id++) {
+            long deadline = (id * 37) % 3000;
+            deadlines.put(id, deadline);
+            wheel.add(new Timer(id, deadline));
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (long now = 13; now <= 3100; now += 13) {
+            long at = now;
+            wheel.advance(now, timer -> {
+                assertThat(firedAt.put(timer.ticketId(), at)).isNull();
+                assertThat(at).isGreaterThan(timer.deadlineMs());
+            });
+        }
+
+        assertThat(firedAt).hasSize(300);
+        // 최하위 tick(10ms) + advance 간격(13ms) 이내 지연
+        firedAt.forEach((id, at) -> assertThat(at - deadlines.get(id)).isLessThanOrEqualTo(23));
+    }
+}
@@ -0,0 +1,109 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.entity.ImageBlob;
+import com.company.ticketservice.repository.ImageBlobRepository;
+import com.company.ticketservice.storage.ImageStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageBlobStoreTest {
+
+    private final ImageBlobRepository repository = mock(ImageBlobRepository.class);
+    private final ImageStorage storage = mock(ImageStorage.class);
+    private final SchedulerLeaseService leaseService = mock(SchedulerLeaseService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final ImageBlobStore store = new ImageBlobStore(repository, storage, leaseService,
+            new TransactionTemplate(transactionManager), 100, Duration.ofMinutes(5));
+
+    @BeforeEach
+    void setUp() {
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+    }
+
+    @Test
+    void deletesRowsAndCommitsBeforeDeletingStorage() throws IOException {
+        ImageBlob blob = blob("a1", "a1.png");
+        when(repository.findUnreferencedForUpdate(any(Pageable.class))).thenReturn(List.of(blob));
+
+        store.purgeUnreferenced();
+
+        InOrder order = inOrder(repository, transactionManager, storage);
+        order.verify(repository).deleteAllInBatch(List.of(blob));
+        order.verify(transactionManager).commit(any());
+        order.verify(storage).delete("a1.png");
+        order.verify(storage).delete("thumb/a1.jpg");
+        order.verify(storage).delete("web/a1.jpg");
+        verify(leaseService).release(anyString());
+    }
+
+    @Test
+    void deletesOnlyPurgedGenerationWhenSameContentWasUploadedAgain() throws IOException {
+        when(repository.findUnreferencedForUpdate(any(Pageable.class))).thenReturn(List.of(blob("a1", "a1-01.png")));
+        // 행 삭제 커밋 직후 같은 내용이 다시 올라와 새 행(새 key)이 생긴 상태
+        when(repository.existsById("a1")).thenReturn(true);
+
+        store.purgeUnreferenced();
+
+        verify(storage).delete("a1-01.png");
+        verify(storage).delete("thumb/a1-01.jpg");
+        verify(storage).delete("web/a1-01.jpg");
+    }
+
+    @Test
+    void blobKeyDiffersPerGeneration() {
+        String first = ImageBlobStore.blobKey("a1", ".png");
+        String second = ImageBlobStore.blobKey("a1", ".png");
+
+        assertThat(first).startsWith("a1-").endsWith(".png");
+        assertThat(second).startsWith("a1-").endsWith(".png").isNotEqualTo(first);
+    }
+
+    @Test
+    void storageFailureLeavesOrphanAndContinues() throws IOException {
+        when(repository.findUnreferencedForUpdate(any(Pageable.class)))
+                .thenReturn(List.of(blob("a1", "a1.png"), blob("b2", "b2.png")));
+        doThrow(new IOException("unavailable")).when(storage).delete("a1.png");
+
+        store.purgeUnreferenced();
+
+        verify(storage).delete("b2.png");
+        verify(leaseService).release(anyString());
+    }
+
+    @Test
+    void skipsWhenLeaseIsHeldElsewhere() {
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(false);
+
+        store.purgeUnreferenced();
+
+        verify(repository, never()).findUnreferencedForUpdate(any());
+        verify(leaseService, never()).release(anyString());
+    }
+
+    private static ImageBlob blob(String contentHash, String key) {
+        return ImageBlob.builder()
+                .contentHash(contentHash)
+                .blobKey(key)
+                .refCount(0)
+                .build();
+    }
+}
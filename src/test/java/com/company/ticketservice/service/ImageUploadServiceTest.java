@@ -0,0 +1,141 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.entity.ImageRef;
+import com.company.ticketservice.entity.Ticket;
+import com.company.ticketservice.repository.TicketRepository;
+import com.company.ticketservice.storage.ImageStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageUploadServiceTest {
+
+    private static final Long TICKET_ID = 1L;
+
+    @TempDir
+    Path stagingDir;
+
+    private final ImageStorage imageStorage = mock(ImageStorage.class);
+    private final ImageBlobStore imageBlobStore = mock(ImageBlobStore.class);
+    private final ImageVariantGenerator imageVariantGenerator = mock(ImageVariantGenerator.class);
+    private final TicketRepository ticketRepository = mock(TicketRepository.class);
+    private final TicketDetailCache ticketDetailCache = mock(TicketDetailCache.class);
+    private final SchedulerLeaseService leaseService = mock(SchedulerLeaseService.class);
+
+    private ImageUploadService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = new ImageUploadService(imageStorage, imageBlobStore, imageVariantGenerator, ticketRepository,
+                ticketDetailCache, mock(TicketSearchCache.class), leaseService,
+                directExecutor(), directExecutor(), stagingDir.toString(),
+                Duration.ofHours(1), 100, Duration.ofMinutes(5));
+        when(imageBlobStore.acquire(anyString(), anyString())).thenAnswer(invocation ->
+                new ImageBlobStore.Blob(invocation.getArgument(0), invocation.getArgument(1), false, null, null));
+        when(imageVariantGenerator.generate(any(Path.class), any(Path.class))).thenReturn(List.of());
+        when(ticketRepository.findById(TICKET_ID)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void uploadResolvesPendingRefToContentKey() throws IOException {
+        ImageUploadService.StagedImage staged = service.stage(image());
+        String pendingRef = ImageRef.pending(staged.key());
+        when(ticketRepository.resolveImage1Ref(eq(TICKET_ID), eq(pendingRef), anyString(), isNull(), isNull()))
+                .thenReturn(1);
+
+        service.uploadAfterCommit(TICKET_ID, staged);
+
+        String contentHash = ImageBlobStore.contentHash(stagingDir.resolve("source.png"));
+        ArgumentCaptor<String> blobKey = ArgumentCaptor.forClass(String.class);
+        verify(imageStorage).store(blobKey.capture(), eq(staged.file()), eq("image/png"));
+        assertThat(blobKey.getValue()).startsWith(contentHash + "-").endsWith(".png");
+        verify(ticketRepository).resolveImage1Ref(TICKET_ID, pendingRef, blobKey.getValue(), null, null);
+        verify(ticketDetailCache).invalidate(TICKET_ID);
+        verify(imageBlobStore, never()).release(anyString());
+        assertThat(staged.file()).doesNotExist();
+    }
+
+    @Test
+    void uploadFailureClearsPendingRefAndReleasesBlob() throws IOException {
+        ImageUploadService.StagedImage staged = service.stage(image());
+        String pendingRef = ImageRef.pending(staged.key());
+        doThrow(new IOException("unavailable")).when(imageStorage).store(anyString(), any(Path.class), anyString());
+        when(ticketRepository.clearImageRef(TICKET_ID, pendingRef)).thenReturn(1);
+
+        service.uploadAfterCommit(TICKET_ID, staged);
+
+        verify(ticketRepository).clearImageRef(TICKET_ID, pendingRef);
+        verify(ticketRepository, never()).resolveImage1Ref(any(), anyString(), anyString(), any(), any());
+        verify(imageBlobStore).release(anyString());
+        verify(ticketDetailCache).invalidate(TICKET_ID);
+        assertThat(staged.file()).doesNotExist();
+    }
+
+    @Test
+    void sweepClearsStalePendingRefs() throws IOException {
+        Path leftover = Files.writeString(stagingDir.resolve("123e4567-e89b-12d3-a456-426614174000.png"), "x");
+        String pendingRef = ImageRef.pending(leftover.getFileName().toString());
+        Ticket ticket = Ticket.builder().ticketId(TICKET_ID).image1("a1.png").image2(pendingRef).build();
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+        when(ticketRepository.findStalePendingImages(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(ticket));
+        when(ticketRepository.clearImageRef(TICKET_ID, pendingRef)).thenReturn(1);
+
+        service.sweepStalePending();
+
+        verify(ticketRepository).clearImageRef(TICKET_ID, pendingRef);
+        verify(ticketRepository, never()).clearImageRef(TICKET_ID, "a1.png");
+        verify(ticketDetailCache).invalidate(TICKET_ID);
+        verify(leaseService).release(anyString());
+        assertThat(leftover).doesNotExist();
+    }
+
+    @Test
+    void sweepSkipsWhenLeaseIsHeldElsewhere() {
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(false);
+
+        service.sweepStalePending();
+
+        verify(ticketRepository, never()).findStalePendingImages(any(), any(), any());
+    }
+
+    private MockMultipartFile image() throws IOException {
+        byte[] content = {1, 2, 3, 4};
+        Files.write(stagingDir.resolve("source.png"), content);
+        return new MockMultipartFile("image1", "photo.PNG", "image/png", content);
+    }
+
+    /** 제출한 스레드에서 바로 실행 (업로드 → 축소본 → 참조 교체를 순서대로 확인) */
+    private static ThreadPoolTaskExecutor directExecutor() {
+        ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        return executor;
+    }
+}
@@ -0,0 +1,68 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.service.ImageVariantGenerator.Generated;
+import com.company.ticketservice.service.ImageVariantGenerator.Variant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantGeneratorTest {
+
+    private final ImageVariantGenerator generator = new ImageVariantGenerator(32, 128, 0.8f, 100_000_000L);
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void scalesLongSideToVariantSizes() throws IOException {
+        // 128의 2배가 넘는 원본 → subsampling 후에도 웹 크기보다 작아지지 않아야 함
+        Path source = png(1000, 500);
+
+        List<Generated> generated = generator.generate(source, workDir);
+
+        assertThat(generated).extracting(Generated::variant).containsExactly(Variant.THUMBNAIL, Variant.WEB);
+        assertThat(size(generated.get(0).file())).containsExactly(32, 16);
+        assertThat(size(generated.get(1).file())).containsExactly(128, 64);
+    }
+
+    @Test
+    void doesNotUpscaleSmallImage() throws IOException {
+        Path source = png(100, 40);
+
+        List<Generated> generated = generator.generate(source, workDir);
+
+        assertThat(size(generated.get(1).file())).containsExactly(100, 40);
+    }
+
+    @Test
+    void skipsNonImage() throws IOException {
+        Path source = Files.writeString(workDir.resolve("note.txt"), "not an image");
+
+        assertThat(generator.generate(source, workDir)).isEmpty();
+    }
+
+    @Test
+    void variantKeyReplacesExtension() {
+        assertThat(ImageVariantGenerator.variantKey("3f2a.png", Variant.THUMBNAIL)).isEqualTo("thumb/3f2a.jpg");
+        assertThat(ImageVariantGenerator.variantKey("3f2a", Variant.WEB)).isEqualTo("web/3f2a.jpg");
+    }
+
+    private Path png(int width, int height) throws IOException {
+        Path file = workDir.resolve("source-" + width + "x" + height + ".png");
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", file.toFile());
+        return file;
+    }
+
+    private static int[] size(Path file) throws IOException {
+        BufferedImage image = ImageIO.read(file.toFile());
+        return new int[]{image.getWidth(), image.getHeight()};
+    }
+}
@@ -0,0 +1,148 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.entity.OutboxEvent;
+import com.company.ticketservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import software.amazon.awssdk.services.sns.model.PublishBatchResultEntry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final SnsClient snsClient = mock(SnsClient.class);
+    private final SchedulerLeaseService leaseService = mock(SchedulerLeaseService.class);
+
+    // 실패시킬 outboxEventId
+    private final Set<Long> failing = new java.util.HashSet<>();
+    private final List<List<Long>> publishedBatches = new ArrayList<>();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+        when(snsClient.publishBatch(any(PublishBatchRequest.class))).thenAnswer(invocation -> {
+            PublishBatchRequest request = invocation.getArgument(0);
+            List<Long> ids = new ArrayList<>();
+            List<PublishBatchResultEntry> successful = new ArrayList<>();
+            List<BatchResultErrorEntry> failed = new ArrayList<>();
+            for (PublishBatchRequestEntry entry : request.publishBatchRequestEntries()) {
+                ids.add(Long.valueOf(entry.id()));
+                if (failing.contains(Long.valueOf(entry.id()))) {
+                    failed.add(BatchResultErrorEntry.builder().id(entry.id()).code("Invalid").message("too large").build());
+                } else {
+                    successful.add(PublishBatchResultEntry.builder().id(entry.id()).build());
+                }
+            }
+            publishedBatches.add(ids);
+            return PublishBatchResponse.builder().successful(successful).failed(failed).build();
+        });
+        relay = new OutboxRelay(repository, snsClient, leaseService, new SimpleMeterRegistry(),
+                "arn:aws:sns:ap-northeast-2:000000000000:ticket-events", 200, MAX_ATTEMPTS,
+                Duration.ofSeconds(1), Duration.ofMinutes(5), Duration.ofMinutes(1), Duration.ofDays(7), false);
+    }
+
+    @Test
+    void groupsByAggregateInIdOrderAndBlocksAfterEventInBackoff() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = List.of(
+                event(1L, "1", 0, now),
+                event(2L, "2", 0, now.plusMinutes(1)),   // 재시도 대기
+                event(3L, "1", 0, now),
+                event(4L, "2", 0, now)                    // 앞 이벤트가 대기 중이라 제외
+        );
+
+        Map<String, ArrayDeque<OutboxEvent>> queues = OutboxRelay.groupByAggregate(events, now);
+
+        assertThat(queues).containsOnlyKeys("ticket:1");
+        assertThat(queues.get("ticket:1")).extracting(OutboxEvent::getOutboxEventId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void publishesOneEventPerAggregatePerBatchAndStopsFailedAggregate() {
+        LocalDateTime now = LocalDateTime.now().minusSeconds(1);
+        when(repository.findPublishable(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(
+                event(1L, "1", 0, now),
+                event(2L, "2", 0, now),
+                event(3L, "1", 0, now),
+                event(4L, "2", 0, now)
+        ));
+        failing.add(2L);
+
+        relay.relay();
+
+        // 1번 배치: 각 aggregate의 첫 이벤트, 2번 배치: 실패한 aggregate 2는 제외
+        assertThat(publishedBatches).containsExactly(List.of(1L, 2L), List.of(3L));
+        verify(repository).markFailed(eq(2L), any(LocalDateTime.class), anyString());
+        verify(repository, never()).markParked(any(), any(), any());
+        verify(repository).markPublished(idsEq(List.of(1L)), any(LocalDateTime.class));
+        verify(repository).markPublished(idsEq(List.of(3L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    void parksEventAfterMaxAttempts() {
+        LocalDateTime now = LocalDateTime.now().minusSeconds(1);
+        when(repository.findPublishable(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(
+                event(1L, "1", MAX_ATTEMPTS - 1, now)
+        ));
+        failing.add(1L);
+
+        relay.relay();
+
+        verify(repository).markParked(eq(1L), any(LocalDateTime.class), anyString());
+        verify(repository, never()).markFailed(any(), any(), any());
+    }
+
+    @Test
+    void skipsWhenLeaseIsHeldElsewhere() {
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(false);
+
+        relay.relay();
+
+        verify(repository, never()).findPublishable(any(), any());
+    }
+
+    private static Collection<Long> idsEq(List<Long> ids) {
+        return org.mockito.ArgumentMatchers.argThat(actual -> actual != null && new ArrayList<>(actual).equals(ids));
+    }
+
+    private static OutboxEvent event(Long id, String aggregateId, int attempts, LocalDateTime nextAttemptAt) {
+        return OutboxEvent.builder()
+                .outboxEventId(id)
+                .aggregateType("ticket")
+                .aggregateId(aggregateId)
+                .eventType("ticket.status-changed")
+                .payload("{}")
+                .createdAt(nextAttemptAt.minusSeconds(1))
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.repository.ProcessedEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProcessedEventStoreTest {
+
+    private final ProcessedEventRepository repository = mock(ProcessedEventRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findExistingIds(anyCollection())).thenReturn(List.of());
+        when(repository.insert(anyString(), anyString(), any(LocalDateTime.class))).thenReturn(1);
+    }
+
+    @Test
+    void checksEveryIdInDatabaseBeforeWarmUp() {
+        ProcessedEventStore store = store(Duration.ofDays(7));
+
+        store.findProcessed(List.of("e1", "e2"));
+
+        verify(repository).findExistingIds(List.of("e1", "e2"));
+    }
+
+    @Test
+    void skipsDatabaseForIdsTheFilterHasNeverSeen() {
+        ProcessedEventStore store = warmedUp(Duration.ofDays(7), "e1");
+        when(repository.findExistingIds(List.of("e1"))).thenReturn(List.of("e1"));
+
+        assertThat(store.findProcessed(List.of("e1", "new-1", "new-2"))).containsExactly("e1");
+        verify(repository).findExistingIds(List.of("e1"));
+
+        assertThat(store.findProcessed(List.of("new-1", "new-2"))).isEmpty();
+        verify(repository, never()).findExistingIds(List.of("new-1", "new-2"));
+    }
+
+    @Test
+    void markedEventIsCheckedInDatabaseAfterwards() {
+        ProcessedEventStore store = warmedUp(Duration.ofDays(7));
+
+        assertThat(store.markProcessed("e1", "deal.confirmed")).isTrue();
+        store.findProcessed(List.of("e1"));
+
+        verify(repository).findExistingIds(List.of("e1"));
+    }
+
+    @Test
+    void keepsPreviousFilterForOneRotation() {
+        // ttl 0 → prune 호출마다 필터 교체
+        ProcessedEventStore store = warmedUp(Duration.ZERO, "e1");
+
+        store.prune();
+        store.findProcessed(List.of("e1"));
+        verify(repository).findExistingIds(List.of("e1"));
+
+        store.prune();
+        assertThat(store.findProcessed(List.of("e1"))).isEmpty();
+        verify(repository).findExistingIds(List.of("e1"));
+    }
+
+    private ProcessedEventStore store(Duration ttl) {
+        return new ProcessedEventStore(repository, mock(PlatformTransactionManager.class), ttl, 1_000, 0.01);
+    }
+
+    private ProcessedEventStore warmedUp(Duration ttl, String... processedIds) {
+        when(repository.streamEventIdsProcessedSince(any(LocalDateTime.class))).thenReturn(Stream.of(processedIds));
+        ProcessedEventStore store = store(ttl);
+        store.load();
+        return store;
+    }
+}
@@ -0,0 +1,73 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.exception.ConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketAdmissionGateTest {
+
+    private final TicketAdmissionGate gate = new TicketAdmissionGate(new SimpleMeterRegistry());
+
+    @Test
+    void rejectsDuplicateRequestOfSameUserWhileInFlight() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> gate.admit(1L, 10L, () -> {
+            entered.countDown();
+            await(release);
+            return "first";
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> gate.admit(1L, 10L, () -> "duplicate"))
+                .isInstanceOf(ConflictException.class);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+    }
+
+    @Test
+    void otherUserIsNotBlockedByInFlightRequest() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> nonOwner = CompletableFuture.supplyAsync(() -> gate.admit(1L, 20L, () -> {
+            entered.countDown();
+            await(release);
+            return "non-owner";
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(gate.admit(1L, 10L, () -> "owner")).isEqualTo("owner");
+
+        release.countDown();
+        nonOwner.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void releasesGateAfterSuccessAndFailure() {
+        assertThat(gate.admit(1L, 10L, () -> "ok")).isEqualTo("ok");
+        assertThat(gate.admit(1L, 10L, () -> "again")).isEqualTo("again");
+
+        assertThatThrownBy(() -> gate.admit(1L, 10L, () -> {
+            throw new ConflictException("DB에서 거절");
+        })).isInstanceOf(ConflictException.class);
+
+        // DB가 거절한 뒤에도 상태를 기억하지 않음
+        assertThat(gate.admit(1L, 10L, () -> "retry")).isEqualTo("retry");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
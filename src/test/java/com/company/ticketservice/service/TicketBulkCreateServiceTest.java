@@ -0,0 +1,164 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.dto.TicketBulkCreateResponse;
+import com.company.ticketservice.dto.TicketBulkCreateResponse.CreatedTicket;
+import com.company.ticketservice.dto.TicketBulkCreateResponse.RowError;
+import com.company.ticketservice.dto.TicketCreateRequest;
+import com.company.ticketservice.entity.Ticket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TicketBulkCreateServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final String EVENT_DATE = LocalDateTime.now().plusDays(30).withNano(0)
+            .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+    private final TicketService ticketService = mock(TicketService.class);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final AtomicLong nextTicketId = new AtomicLong(100);
+
+    // createTickets 호출별 청크 크기
+    private final List<Integer> chunkSizes = new ArrayList<>();
+    // 몇 번째 createTickets 호출을 실패시킬지 (0이면 실패 없음)
+    private int failingCall;
+
+    @BeforeEach
+    void setUp() {
+        doCallRealMethod().when(ticketService).validateCreateRequest(any(TicketCreateRequest.class));
+        when(ticketService.createTickets(eq(USER_ID), anyList())).thenAnswer(invocation -> {
+            List<TicketCreateRequest> requests = invocation.getArgument(1);
+            chunkSizes.add(requests.size());
+            if (chunkSizes.size() == failingCall) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            return requests.stream()
+                    .map(request -> Ticket.builder().ticketId(nextTicketId.getAndIncrement()).build())
+                    .toList();
+        });
+    }
+
+    @Test
+    void createsRowsFromJsonArrayAndReportsInvalidRows() {
+        String body = "[" + jsonRow("A") + ","
+                + "{\"eventName\":\"B\",\"eventDate\":\"" + EVENT_DATE + "\"},"
+                + jsonRow("C").replace("\"originalPrice\":50000", "\"originalPrice\":\"abc\"") + ","
+                + jsonRow("D") + "]";
+
+        TicketBulkCreateResponse response = service(2, 100).createTickets(USER_ID, stream(body), MediaType.APPLICATION_JSON);
+
+        assertThat(response.getTotalRows()).isEqualTo(4);
+        assertThat(response.getCreatedCount()).isEqualTo(2);
+        assertThat(response.getCreated()).extracting(CreatedTicket::row).containsExactly(1, 4);
+        assertThat(response.getErrors()).extracting(RowError::row).containsExactly(2, 3);
+        assertThat(response.getErrors().get(0).message()).isEqualTo("공연 장소는 필수 입력값입니다.");
+        assertThat(response.getErrors().get(1).message()).contains("originalPrice");
+        assertThat(chunkSizes).containsExactly(2);
+    }
+
+    @Test
+    void createsRowsFromNdjsonInChunks() {
+        String body = jsonRow("A") + "\n" + jsonRow("B") + "\n" + jsonRow("C") + "\n";
+
+        TicketBulkCreateResponse response = service(2, 100).createTickets(USER_ID, stream(body), NDJSON);
+
+        assertThat(response.getTotalRows()).isEqualTo(3);
+        assertThat(response.getCreated()).extracting(CreatedTicket::ticketId).containsExactly(100L, 101L, 102L);
+        assertThat(response.getErrors()).isEmpty();
+        assertThat(chunkSizes).containsExactly(2, 1);
+    }
+
+    @Test
+    void createsRowsFromCsvTreatingBlankCellsAsMissing() {
+        String body = "eventName,eventDate,eventLocation,originalPrice,categoryId,tradeType,sellingPrice\n"
+                + "A," + EVENT_DATE + ",Seoul,50000,1,DELIVERY,\n"
+                + "B," + EVENT_DATE + ",Seoul,50000,1,PARCEL,45000\n"
+                + " C ," + EVENT_DATE + ",Busan,50000,1,ONSITE,45000\n";
+
+        TicketBulkCreateResponse response = service(200, 100)
+                .createTickets(USER_ID, stream(body), MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+        assertThat(response.getTotalRows()).isEqualTo(3);
+        assertThat(response.getCreated()).extracting(CreatedTicket::row).containsExactly(1, 3);
+        assertThat(response.getErrors()).extracting(RowError::row).containsExactly(2);
+        assertThat(response.getErrors().get(0).message()).contains("tradeType");
+    }
+
+    @Test
+    void stopsAtMaxRowsAndKeepsEarlierRows() {
+        String body = jsonRow("A") + "\n" + jsonRow("B") + "\n" + jsonRow("C") + "\n" + jsonRow("D") + "\n";
+
+        TicketBulkCreateResponse response = service(200, 2).createTickets(USER_ID, stream(body), NDJSON);
+
+        assertThat(response.getCreated()).extracting(CreatedTicket::row).containsExactly(1, 2);
+        assertThat(response.getErrors()).extracting(RowError::row).containsExactly(3);
+        assertThat(response.getErrors().get(0).message()).contains("최대 2건");
+    }
+
+    @Test
+    void reportsFailedChunkAsRowErrorsAndContinues() {
+        failingCall = 1;
+        String body = jsonRow("A") + "\n" + jsonRow("B") + "\n" + jsonRow("C") + "\n";
+
+        TicketBulkCreateResponse response = service(2, 100).createTickets(USER_ID, stream(body), NDJSON);
+
+        assertThat(response.getTotalRows()).isEqualTo(3);
+        assertThat(response.getCreated()).extracting(CreatedTicket::row).containsExactly(3);
+        assertThat(response.getErrors()).extracting(RowError::row).containsExactly(1, 2);
+    }
+
+    @Test
+    void returnsPartialResultWhenBodyBreaksMidway() {
+        String body = "[" + jsonRow("A") + "," + jsonRow("B") + ",{\"eventName\": ";
+
+        TicketBulkCreateResponse response = service(1, 100).createTickets(USER_ID, stream(body), MediaType.APPLICATION_JSON);
+
+        assertThat(response.getCreated()).extracting(CreatedTicket::row).containsExactly(1, 2);
+        assertThat(response.getErrors()).extracting(RowError::row).containsExactly(3);
+    }
+
+    @Test
+    void emptyBodyCreatesNothing() {
+        TicketBulkCreateResponse response = service(200, 100).createTickets(USER_ID, stream("[]"), MediaType.APPLICATION_JSON);
+
+        assertThat(response.getTotalRows()).isZero();
+        assertThat(response.getCreated()).isEmpty();
+        verify(ticketService, never()).createTickets(any(), anyList());
+    }
+
+    private TicketBulkCreateService service(int batchSize, int maxRows) {
+        return new TicketBulkCreateService(ticketService, objectMapper, batchSize, maxRows);
+    }
+
+    private static String jsonRow(String eventName) {
+        return "{\"eventName\":\"" + eventName + "\",\"eventDate\":\"" + EVENT_DATE + "\","
+                + "\"eventLocation\":\"Seoul\",\"originalPrice\":50000,\"categoryId\":1,\"tradeType\":\"DELIVERY\"}";
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,38 @@
+package com.company.ticketservice.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketCountCacheTest {
+
+    private final TicketCountCache cache = new TicketCountCache(Duration.ofMinutes(1), Duration.ofMinutes(10), 2);
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void countsOnceAndServesCachedValue() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.getEstimatedCount("a", () -> 10 + calls.getAndIncrement())).isEqualTo(10);
+        assertThat(cache.getEstimatedCount("a", () -> 10 + calls.getAndIncrement())).isEqualTo(10);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void failedCountIsNotCached() {
+        assertThatThrownBy(() -> cache.getEstimatedCount("a", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.getEstimatedCount("a", () -> 5)).isEqualTo(5);
+    }
+}
@@ -0,0 +1,80 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.repository.TicketOwnerRow;
+import com.company.ticketservice.repository.TicketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TicketExpirationServiceTest {
+
+    private final TicketRepository ticketRepository = mock(TicketRepository.class);
+    private final TicketDetailCache ticketDetailCache = mock(TicketDetailCache.class);
+    private final SchedulerLeaseService leaseService = mock(SchedulerLeaseService.class);
+    private final TicketEventOutbox ticketEventOutbox = mock(TicketEventOutbox.class);
+
+    private final TicketExpirationService service = new TicketExpirationService(
+            ticketRepository,
+            ticketDetailCache,
+            mock(TicketSearchCache.class),
+            leaseService,
+            ticketEventOutbox,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            new SimpleMeterRegistry(),
+            2, 10, Duration.ofMinutes(5)
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+    }
+
+    @Test
+    void expiresCandidateIdsInChunksAndRecordsOwner() {
+        when(ticketRepository.findExpirationCandidates(eq(TicketStatus.AVAILABLE), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(new TicketOwnerRow(1L, 10L), new TicketOwnerRow(2L, 20L)))
+                .thenReturn(List.of(new TicketOwnerRow(3L, 30L)));
+
+        service.expireTickets();
+
+        verify(ticketRepository).expireTicketsByIds(List.of(1L, 2L), TicketStatus.AVAILABLE, TicketStatus.EXPIRED);
+        verify(ticketRepository).expireTicketsByIds(List.of(3L), TicketStatus.AVAILABLE, TicketStatus.EXPIRED);
+        verify(ticketEventOutbox).append("ticket.status.changed", 2L, Map.of(
+                "ticketId", 2L,
+                "ownerId", 20L,
+                "oldStatus", "AVAILABLE",
+                "newStatus", "EXPIRED"
+        ));
+        verify(ticketDetailCache).invalidateAll(List.of(3L));
+        verify(leaseService).release(anyString());
+    }
+
+    @Test
+    void expiresDueTicketsById() {
+        when(ticketRepository.findExpirationCandidatesByIds(anyCollection(), eq(TicketStatus.AVAILABLE), any(LocalDateTime.class)))
+                .thenReturn(List.of(new TicketOwnerRow(5L, 50L)));
+
+        int expired = service.expireDueTickets(List.of(5L));
+
+        assertThat(expired).isEqualTo(1);
+        verify(ticketRepository).expireTicketsByIds(List.of(5L), TicketStatus.AVAILABLE, TicketStatus.EXPIRED);
+    }
+}
@@ -0,0 +1,59 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.dto.TotalCountMode;
+import com.company.ticketservice.entity.TicketStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TicketSearchCacheTest {
+
+    private final TicketSearchCache cache = new TicketSearchCache(
+            new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void invalidateAcceptsSameStatusTwice() {
+        TicketSearchCache.Key available = key(1L, TicketStatus.AVAILABLE);
+        TicketSearchCache.Key sold = key(1L, TicketStatus.SOLD);
+        load(available);
+        load(sold);
+
+        cache.invalidate(1L, TicketStatus.AVAILABLE, TicketStatus.AVAILABLE);
+        load(available);
+        load(sold);
+
+        // AVAILABLE 키만 다시 조회
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void invalidateStatusesAcceptsDuplicates() {
+        TicketSearchCache.Key other = key(2L, TicketStatus.RESERVED);
+        TicketSearchCache.Key any = key(null, null);
+        load(other);
+        load(any);
+
+        cache.invalidateStatuses(TicketStatus.RESERVED, TicketStatus.RESERVED, TicketStatus.SOLD);
+        load(other);
+        load(any);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    private void load(TicketSearchCache.Key key) {
+        cache.get(key, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+    }
+
+    private static TicketSearchCache.Key key(Long categoryId, TicketStatus status) {
+        return new TicketSearchCache.Key("c=" + categoryId + "&s=" + status, categoryId, status, 0, 20, "createdAt,DESC", TotalCountMode.EXACT);
+    }
+}
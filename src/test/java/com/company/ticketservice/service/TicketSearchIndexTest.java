@@ -0,0 +1,158 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.dto.TicketSearchCondition;
+import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.repository.TicketDeletionRepository;
+import com.company.ticketservice.repository.TicketKeywordRow;
+import com.company.ticketservice.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TicketSearchIndexTest {
+
+    private static final LocalDateTime EVENT_DATE = LocalDateTime.of(2026, 12, 24, 19, 0);
+
+    private final TicketRepository ticketRepository = mock(TicketRepository.class);
+    private final TicketDeletionRepository ticketDeletionRepository = mock(TicketDeletionRepository.class);
+
+    private TicketSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TicketSearchIndex(ticketRepository, ticketDeletionRepository, mock(PlatformTransactionManager.class), Duration.ofHours(1));
+        when(ticketRepository.streamKeywordRows()).thenReturn(Stream.of(
+                row(1L, "아이유 콘서트", "잠실 올림픽 주경기장"),
+                row(2L, "IU Concert", "Seoul"),
+                row(3L, "뮤지컬 레미제라블", "블루스퀘어"),
+                row(4L, "콘서트 앙코르", "부산")
+        ));
+        index.build();
+    }
+
+    @Test
+    void notReadyBeforeBuild() {
+        TicketSearchIndex empty = new TicketSearchIndex(ticketRepository, ticketDeletionRepository, mock(PlatformTransactionManager.class), Duration.ofHours(1));
+        empty.index(row(1L, "아이유 콘서트", "잠실"));
+
+        assertThat(empty.findTicketIds("콘서트")).isEmpty();
+    }
+
+    @Test
+    void findsSubstringInNameOrLocation() {
+        assertThat(index.findTicketIds("콘서트")).contains(List.of(1L, 4L));
+        assertThat(index.findTicketIds("올림픽")).contains(List.of(1L));
+        assertThat(index.findTicketIds("concert")).contains(List.of(2L));
+        assertThat(index.findTicketIds("블")).contains(List.of(3L));
+    }
+
+    @Test
+    void verifiesContiguousMatch() {
+        // "가나", "나다" 2-gram은 모두 있지만 "가나다"는 포함하지 않음
+        index.index(row(5L, "가나 나다", "서울"));
+
+        assertThat(index.findTicketIds("가나다")).contains(List.of());
+        assertThat(index.findTicketIds("나 나")).contains(List.of(5L));
+        assertThat(index.findTicketIds("트콘")).contains(List.of());
+    }
+
+    @Test
+    void doesNotMatchAcrossFields() {
+        // 공연명 끝 "콘서트" + 공연장 "잠실" 경계를 넘는 검색어
+        assertThat(index.findTicketIds("트잠")).contains(List.of());
+    }
+
+    @Test
+    void normalizesDecomposedHangulAndCase() {
+        String decomposed = Normalizer.normalize("콘서트", Normalizer.Form.NFD);
+
+        assertThat(index.findTicketIds(decomposed)).contains(List.of(1L, 4L));
+        assertThat(index.findTicketIds("  SEOUL ")).contains(List.of(2L));
+    }
+
+    @Test
+    void indexReplacesPreviousDocument() {
+        index.index(row(4L, "연극 햄릿", "부산"));
+
+        assertThat(index.findTicketIds("콘서트")).contains(List.of(1L));
+        assertThat(index.findTicketIds("햄릿")).contains(List.of(4L));
+    }
+
+    @Test
+    void unindexDropsTicket() {
+        index.unindex(1L);
+
+        assertThat(index.findTicketIds("콘서트")).contains(List.of(4L));
+        assertThat(index.findTicketIds("올림픽")).contains(List.of());
+    }
+
+    @Test
+    void syncAppliesChangesAndDeletionsFromOtherInstances() {
+        when(ticketRepository.findKeywordRowsModifiedSince(any(LocalDateTime.class)))
+                .thenReturn(List.of(row(4L, "연극 햄릿", "부산")));
+        when(ticketDeletionRepository.findTicketIdsDeletedSince(any(LocalDateTime.class))).thenReturn(List.of(1L));
+
+        index.syncRecentChanges();
+
+        assertThat(index.findTicketIds("콘서트")).contains(List.of());
+        assertThat(index.findTicketIds("올림픽")).contains(List.of());
+        assertThat(index.findTicketIds("햄릿")).contains(List.of(4L));
+    }
+
+    @Test
+    void returnsEveryMatchForCommonKeyword() {
+        for (long id = 10; id < 2010; id++) {
+            index.index(row(id, "콘서트 " + id, "서울"));
+        }
+
+        Optional<List<Long>> result = index.findTicketIds("콘서트");
+
+        assertThat(result).hasValueSatisfying(ids -> assertThat(ids).hasSize(2002).isSorted());
+    }
+
+    @Test
+    void appliesConditionFiltersInMemory() {
+        index.index(row(10L, "콘서트 서울", "잠실", TicketStatus.SOLD, 1L, EVENT_DATE));
+        index.index(row(11L, "콘서트 대구", "엑스코", TicketStatus.AVAILABLE, 2L, EVENT_DATE));
+        index.index(row(12L, "콘서트 광주", "김대중센터", TicketStatus.AVAILABLE, 1L, EVENT_DATE.plusMonths(2)));
+
+        assertThat(index.findTicketIds(condition("콘서트", TicketStatus.SOLD, null, null, null))).contains(List.of(10L));
+        assertThat(index.findTicketIds(condition("콘서트", null, 2L, null, null))).contains(List.of(11L));
+        assertThat(index.findTicketIds(condition("콘서트", TicketStatus.AVAILABLE, 1L, EVENT_DATE.plusMonths(1), null)))
+                .contains(List.of(12L));
+        assertThat(index.findTicketIds(condition("콘서트", null, null, null, EVENT_DATE)))
+                .contains(List.of(1L, 4L, 10L, 11L));
+    }
+
+    private static TicketSearchCondition condition(String keyword, TicketStatus status, Long categoryId,
+                                                   LocalDateTime startDate, LocalDateTime endDate) {
+        TicketSearchCondition condition = new TicketSearchCondition();
+        condition.setEventName(keyword);
+        condition.setTicketStatus(status);
+        condition.setCategoryId(categoryId);
+        condition.setStartDate(startDate);
+        condition.setEndDate(endDate);
+        return condition;
+    }
+
+    private static TicketKeywordRow row(Long ticketId, String eventName, String eventLocation) {
+        return row(ticketId, eventName, eventLocation, TicketStatus.AVAILABLE, 1L, EVENT_DATE);
+    }
+
+    private static TicketKeywordRow row(Long ticketId, String eventName, String eventLocation,
+                                        TicketStatus status, Long categoryId, LocalDateTime eventDate) {
+        return new TicketKeywordRow(ticketId, eventName, eventLocation, status, 100L, categoryId, eventDate);
+    }
+}
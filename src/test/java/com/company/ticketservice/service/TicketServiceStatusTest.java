@@ -0,0 +1,109 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.dto.TicketResponse;
+import com.company.ticketservice.entity.Ticket;
+import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.exception.BadRequestException;
+import com.company.ticketservice.exception.ConflictException;
+import com.company.ticketservice.repository.TicketRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TicketServiceStatusTest {
+
+    private static final Long TICKET_ID = 1L;
+    private static final Long OWNER_ID = 10L;
+
+    private final TicketRepository ticketRepository = mock(TicketRepository.class);
+    private final TicketEventOutbox ticketEventOutbox = mock(TicketEventOutbox.class);
+
+    private final TicketService ticketService = new TicketService(
+            ticketRepository,
+            ticketEventOutbox,
+            mock(TicketCountCache.class),
+            mock(TicketSearchIndex.class),
+            mock(TicketDetailCache.class),
+            mock(TicketSearchCache.class),
+            mock(TicketExpirationWheel.class),
+            mock(FavoriteRanking.class),
+            mock(ImageUploadService.class),
+            mock(ImageBlobStore.class)
+    );
+
+    @Test
+    void successReturnsFullTicketReadAfterUpdate() {
+        when(ticketRepository.compareAndSetStatus(TICKET_ID, OWNER_ID, Set.of(TicketStatus.AVAILABLE), TicketStatus.RESERVED))
+                .thenReturn(1);
+        Ticket updated = ticket(OWNER_ID, TicketStatus.RESERVED);
+        updated.setEventName("아이유 콘서트");
+        when(ticketRepository.findById(TICKET_ID)).thenReturn(Optional.of(updated));
+
+        TicketResponse response = ticketService.updateTicketStatus(TICKET_ID, OWNER_ID, "reserved");
+
+        assertThat(response.getTicketId()).isEqualTo(TICKET_ID);
+        assertThat(response.getOwnerId()).isEqualTo(OWNER_ID);
+        assertThat(response.getTicketStatus()).isEqualTo(TicketStatus.RESERVED);
+        assertThat(response.getEventName()).isEqualTo("아이유 콘서트");
+        verify(ticketRepository).findById(TICKET_ID);
+        verify(ticketEventOutbox).append(eq("ticket.status.changed"), eq(TICKET_ID), argThat((Map<String, Object> payload) ->
+                "AVAILABLE".equals(payload.get("oldStatus")) && "RESERVED".equals(payload.get("newStatus"))));
+    }
+
+    @Test
+    void sameStatusIsNoOp() {
+        when(ticketRepository.findById(TICKET_ID)).thenReturn(Optional.of(ticket(OWNER_ID, TicketStatus.RESERVED)));
+
+        TicketResponse response = ticketService.updateTicketStatus(TICKET_ID, OWNER_ID, "RESERVED");
+
+        assertThat(response.getTicketStatus()).isEqualTo(TicketStatus.RESERVED);
+        verify(ticketEventOutbox, never()).append(anyString(), any(), anyMap());
+    }
+
+    @Test
+    void disallowedTransitionIsConflict() {
+        when(ticketRepository.findById(TICKET_ID)).thenReturn(Optional.of(ticket(OWNER_ID, TicketStatus.SOLD)));
+
+        assertThatThrownBy(() -> ticketService.updateTicketStatus(TICKET_ID, OWNER_ID, "RESERVED"))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void otherOwnerIsRejected() {
+        when(ticketRepository.findById(TICKET_ID)).thenReturn(Optional.of(ticket(99L, TicketStatus.AVAILABLE)));
+
+        assertThatThrownBy(() -> ticketService.updateTicketStatus(TICKET_ID, OWNER_ID, "RESERVED"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void missingTicketIsNotFound() {
+        when(ticketRepository.findById(TICKET_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> ticketService.updateTicketStatus(TICKET_ID, OWNER_ID, "RESERVED"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private static Ticket ticket(Long ownerId, TicketStatus status) {
+        return Ticket.builder()
+                .ticketId(TICKET_ID)
+                .ownerId(ownerId)
+                .ticketStatus(status)
+                .build();
+    }
+}
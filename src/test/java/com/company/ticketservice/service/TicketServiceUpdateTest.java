@@ -0,0 +1,142 @@
+package com.company.ticketservice.service;
+
+import com.company.ticketservice.dto.TicketUpdateRequest;
+import com.company.ticketservice.entity.Ticket;
+import com.company.ticketservice.entity.TicketStatus;
+import com.company.ticketservice.repository.TicketDeletionRepository;
+import com.company.ticketservice.repository.TicketKeywordRow;
+import com.company.ticketservice.repository.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TicketServiceUpdateTest {
+
+    private static final Long TICKET_ID = 1L;
+    private static final Long OWNER_ID = 10L;
+
+    private final TicketRepository ticketRepository = mock(TicketRepository.class);
+    private final TicketDeletionRepository ticketDeletionRepository = mock(TicketDeletionRepository.class);
+    private final TicketSearchIndex ticketSearchIndex =
+            new TicketSearchIndex(ticketRepository, ticketDeletionRepository, mock(PlatformTransactionManager.class), Duration.ofHours(1));
+
+    private final TicketService ticketService = new TicketService(
+            ticketRepository,
+            mock(TicketEventOutbox.class),
+            mock(TicketCountCache.class),
+            ticketSearchIndex,
+            mock(TicketDetailCache.class),
+            mock(TicketSearchCache.class),
+            mock(TicketExpirationWheel.class),
+            mock(FavoriteRanking.class),
+            mock(ImageUploadService.class),
+            mock(ImageBlobStore.class)
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(ticketRepository.streamKeywordRows()).thenReturn(Stream.of(new TicketKeywordRow(
+                TICKET_ID, "아이유 콘서트", "잠실", TicketStatus.AVAILABLE, OWNER_ID, 1L, LocalDateTime.of(2026, 12, 24, 19, 0))));
+        ticketSearchIndex.build();
+        when(ticketRepository.findById(TICKET_ID)).thenReturn(Optional.of(ticket()));
+        when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // @Transactional 메서드 호출 중인 상태
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void updateRolledBackByVersionCheckLeavesIndexUnchanged() {
+        ticketService.updateTicket(TICKET_ID, OWNER_ID, rename("뮤지컬 햄릿"));
+
+        // 커밋 시 version 불일치 (ObjectOptimisticLockingFailureException) → 롤백
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(ticketSearchIndex.findTicketIds("콘서트")).contains(List.of(TICKET_ID));
+        assertThat(ticketSearchIndex.findTicketIds("햄릿")).contains(List.of());
+    }
+
+    @Test
+    void committedUpdateIsIndexed() {
+        ticketService.updateTicket(TICKET_ID, OWNER_ID, rename("뮤지컬 햄릿"));
+
+        assertThat(ticketSearchIndex.findTicketIds("햄릿")).contains(List.of());
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(ticketSearchIndex.findTicketIds("콘서트")).contains(List.of());
+        assertThat(ticketSearchIndex.findTicketIds("햄릿")).contains(List.of(TICKET_ID));
+    }
+
+    @Test
+    void deleteRolledBackByVersionCheckKeepsTicketIndexed() {
+        ticketService.deleteTicket(TICKET_ID, OWNER_ID);
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(ticketSearchIndex.findTicketIds("콘서트")).contains(List.of(TICKET_ID));
+    }
+
+    @Test
+    void deleteRecordsTombstoneAndUnindexesAfterCommit() {
+        ticketService.deleteTicket(TICKET_ID, OWNER_ID);
+
+        verify(ticketDeletionRepository).save(argThat(deletion -> TICKET_ID.equals(deletion.getTicketId())));
+        assertThat(ticketSearchIndex.findTicketIds("콘서트")).contains(List.of(TICKET_ID));
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(ticketSearchIndex.findTicketIds("콘서트")).contains(List.of());
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        }
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+    }
+
+    private static TicketUpdateRequest rename(String eventName) {
+        TicketUpdateRequest request = new TicketUpdateRequest();
+        request.setEventName(eventName);
+        return request;
+    }
+
+    private static Ticket ticket() {
+        return Ticket.builder()
+                .ticketId(TICKET_ID)
+                .ownerId(OWNER_ID)
+                .eventName("아이유 콘서트")
+                .eventLocation("잠실")
+                .categoryId(1L)
+                .ticketStatus(TicketStatus.AVAILABLE)
+                .originalPrice(BigDecimal.valueOf(100_000))
+                .sellingPrice(BigDecimal.valueOf(90_000))
+                .build();
+    }
+}
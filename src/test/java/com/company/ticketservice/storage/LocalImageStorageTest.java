@@ -0,0 +1,87 @@
+package com.company.ticketservice.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalImageStorageTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void storeThenOpenReturnsSameContent() throws IOException {
+        LocalImageStorage storage = storage();
+
+        storage.store("ab/cd.png", source(), "image/png");
+        StoredImage image = storage.open("ab/cd.png");
+
+        assertThat(image.size()).isEqualTo(CONTENT.length);
+        assertThat(image.file()).hasBinaryContent(CONTENT);
+        try (InputStream in = image.openStream(0, CONTENT.length)) {
+            assertThat(in.readAllBytes()).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    void openStreamReadsOnlyRequestedRange() throws IOException {
+        LocalImageStorage storage = storage();
+        storage.store("a.png", source(), "image/png");
+
+        try (InputStream in = storage.open("a.png").openStream(2, 4)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.US_ASCII)).isEqualTo("2345");
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void storeOverwritesAndLeavesNoTempFile() throws IOException {
+        LocalImageStorage storage = storage();
+        storage.store("a.png", source(), "image/png");
+        Path other = Files.write(tempDir.resolve("other"), new byte[]{1, 2, 3});
+
+        storage.store("a.png", other, "image/png");
+
+        assertThat(storage.open("a.png").size()).isEqualTo(3);
+        try (var files = Files.list(tempDir.resolve("root"))) {
+            assertThat(files.map(file -> file.getFileName().toString())).containsExactly("a.png");
+        }
+    }
+
+    @Test
+    void deleteRemovesAndIgnoresMissingKey() throws IOException {
+        LocalImageStorage storage = storage();
+        storage.store("a.png", source(), "image/png");
+
+        storage.delete("a.png");
+        storage.delete("a.png");
+
+        assertThat(storage.open("a.png")).isNull();
+    }
+
+    @Test
+    void rejectsKeyOutsideRoot() throws IOException {
+        LocalImageStorage storage = storage();
+
+        assertThatThrownBy(() -> storage.open("../secret"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private LocalImageStorage storage() throws IOException {
+        return new LocalImageStorage(tempDir.resolve("root").toString());
+    }
+
+    private Path source() throws IOException {
+        return Files.write(tempDir.resolve("source"), CONTENT);
+    }
+}
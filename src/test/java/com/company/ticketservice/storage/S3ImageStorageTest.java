@@ -0,0 +1,124 @@
+package com.company.ticketservice.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 메모리 Map을 버킷으로 쓰는 S3Client stand-in으로 저장 → 조회 왕복 확인
+ */
+class S3ImageStorageTest {
+
+    private static final String BUCKET = "images";
+    private static final String PREFIX = "tickets/";
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path tempDir;
+
+    private final Map<String, byte[]> objects = new HashMap<>();
+    private final S3Client s3Client = mock(S3Client.class);
+    private final S3ImageStorage storage = new S3ImageStorage(s3Client, BUCKET, PREFIX);
+
+    @BeforeEach
+    void setUp() {
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            RequestBody body = invocation.getArgument(1);
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                objects.put(objectKey(request.bucket(), request.key()), in.readAllBytes());
+            }
+            return PutObjectResponse.builder().build();
+        });
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenAnswer(invocation -> {
+            HeadObjectRequest request = invocation.getArgument(0);
+            byte[] object = objects.get(objectKey(request.bucket(), request.key()));
+            if (object == null) {
+                throw NoSuchKeyException.builder().statusCode(404).build();
+            }
+            return HeadObjectResponse.builder().contentLength((long) object.length).build();
+        });
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            byte[] object = objects.get(objectKey(request.bucket(), request.key()));
+            // "bytes=start-end" (end 포함)
+            String[] range = request.range().substring("bytes=".length()).split("-");
+            byte[] slice = Arrays.copyOfRange(object, Integer.parseInt(range[0]), Integer.parseInt(range[1]) + 1);
+            return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(slice)));
+        });
+        when(s3Client.deleteObject(any(DeleteObjectRequest.class))).thenAnswer(invocation -> {
+            DeleteObjectRequest request = invocation.getArgument(0);
+            objects.remove(objectKey(request.bucket(), request.key()));
+            return DeleteObjectResponse.builder().build();
+        });
+    }
+
+    @Test
+    void storeThenOpenReturnsSameContentUnderPrefix() throws IOException {
+        storage.store("ab.png", source(), "image/png");
+        StoredImage image = storage.open("ab.png");
+
+        assertThat(objects).containsOnlyKeys(BUCKET + "/" + PREFIX + "ab.png");
+        assertThat(image.size()).isEqualTo(CONTENT.length);
+        assertThat(image.file()).isNull();
+        try (InputStream in = image.openStream(0, CONTENT.length)) {
+            assertThat(in.readAllBytes()).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    void openStreamRequestsOnlyRange() throws IOException {
+        storage.store("ab.png", source(), "image/png");
+
+        try (InputStream in = storage.open("ab.png").openStream(2, 4)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.US_ASCII)).isEqualTo("2345");
+        }
+    }
+
+    @Test
+    void missingOrDeletedKeyOpensAsNull() throws IOException {
+        assertThat(storage.open("missing.png")).isNull();
+
+        storage.store("ab.png", source(), "image/png");
+        storage.delete("ab.png");
+
+        assertThat(storage.open("ab.png")).isNull();
+    }
+
+    private Path source() throws IOException {
+        return Files.write(tempDir.resolve("source"), CONTENT);
+    }
+
+    private static String objectKey(String bucket, String key) {
+        return bucket + "/" + key;
+    }
+}